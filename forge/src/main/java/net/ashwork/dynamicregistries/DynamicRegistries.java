@@ -17,10 +17,14 @@ import net.ashwork.dynamicregistries.network.DynamicRegistryNetworkFilter;
 import net.ashwork.dynamicregistries.network.DynamicRegistryPacket;
 import net.ashwork.dynamicregistries.registry.DynamicRegistry;
 import net.ashwork.dynamicregistries.registry.IRegistrableDynamicRegistry;
+import net.ashwork.dynamicregistries.util.ResourceLocationInterner;
 import net.minecraft.network.NetworkManager;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.Util;
 import net.minecraft.world.World;
+import net.minecraft.world.storage.DimensionSavedDataManager;
+import net.minecraft.world.storage.FolderName;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.event.AddReloadListenerEvent;
@@ -82,7 +86,7 @@ public final class DynamicRegistries {
      * the beginning portion of the string. If a version is in snapshot, the exact protocol string
      * will be checked.
      */
-    private static final String NETWORK_PROTOCOL_VERSION = "s1c3";
+    private static final String NETWORK_PROTOCOL_VERSION = "s1c5";
     /**
      * The protocol version regex to compare against.
      *
@@ -118,7 +122,11 @@ public final class DynamicRegistries {
     public DynamicRegistries() {
         instance = this;
         this.registryListener = new DynamicRegistryListener();
-        this.dataGetter = server -> Objects.requireNonNull(server.getLevel(World.OVERWORLD), "The Overworld is currently null, make sure you are not calling this ").getDataStorage().computeIfAbsent(DynamicRegistryData::new, ID);
+        this.dataGetter = server -> {
+            final DimensionSavedDataManager storage = Objects.requireNonNull(server.getLevel(World.OVERWORLD), "The Overworld is currently null, make sure you are not calling this ").getDataStorage();
+            // The Overworld stores its saved data within the data folder at the root of the world
+            return storage.computeIfAbsent(() -> new DynamicRegistryData(server.getWorldPath(FolderName.ROOT).resolve("data").resolve(ID)), ID);
+        };
 
         IEventBus modBus = FMLJavaModLoadingContext.get().getModEventBus(),
                 forgeBus = MinecraftForge.EVENT_BUS;
@@ -209,7 +217,9 @@ public final class DynamicRegistries {
      */
     private void attachDataStorage(final FMLServerStartingEvent event) {
         LOGGER.debug(MarkerManager.getMarker("Data"), "Initializing world saved data for dynamic registries.");
-        this.dataGetter.apply(event.getServer());
+        this.dataGetter.apply(event.getServer()).deferLoads();
+        // Loaded on the server thread before anything else reads the registries, a failure aborts starting the server
+        DynamicRegistryManager.DYNAMIC.loadPending();
     }
 
     /**
@@ -219,7 +229,12 @@ public final class DynamicRegistries {
      * @param event the event instance
      */
     private void serverStopped(final FMLServerStoppedEvent event) {
-        DynamicRegistryManager.DYNAMIC.registries(DynamicRegistryManager.Lookup.ALL).forEach(entry -> entry.getValue().clear());
+        this.registryListener.resetWarmStart();
+        try {
+            DynamicRegistryManager.DYNAMIC.registries(DynamicRegistryManager.Lookup.ALL).forEach(entry -> entry.getValue().reset());
+        } finally {
+            ResourceLocationInterner.clear();
+        }
     }
 
     /**
@@ -233,6 +248,8 @@ public final class DynamicRegistries {
 
     /**
      * Checks whether the registry needs to be synced to the client and does so.
+     * Any registry published since the last tick, including through modifications
+     * made at runtime, starts being encoded for the next save.
      *
      * @implNote
      * Doing this within the reload listener causes a crash as we try to send a
@@ -245,8 +262,11 @@ public final class DynamicRegistries {
         if (event.phase == TickEvent.Phase.START) return;
         if (this.invalidateCache) {
             DynamicRegistryManager.DYNAMIC.sendToClient();
-            this.dataGetter.apply(LogicalSidedProvider.INSTANCE.get(LogicalSide.SERVER)).setDirty();
             this.invalidateCache = false;
         }
+        if (DynamicRegistryManager.DYNAMIC.pollModified()) {
+            final DynamicRegistryData data = this.dataGetter.apply(LogicalSidedProvider.INSTANCE.get(LogicalSide.SERVER));
+            if (data.encodeChanges(Util.backgroundExecutor())) data.setDirty();
+        }
     }
 }
@@ -0,0 +1,215 @@
+/*
+ * Dynamic Registries
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.dynamicregistries;
+
+import com.google.common.hash.Funnels;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import net.ashwork.dynamicregistries.registry.DynamicRegistry;
+import net.ashwork.dynamicregistries.util.ResourceLocationInterner;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.INBT;
+import net.minecraft.resources.IResource;
+import net.minecraft.resources.IResourceManager;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.fml.ModList;
+import net.minecraftforge.fml.loading.moddiscovery.ModInfo;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.MarkerManager;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+/**
+ * A cache of the {@link DynamicRegistryManager#DYNAMIC} stage stored on disk. The
+ * registries can then be restored from their snapshots on the next start rather
+ * than reading and decoding every data file again, as long as nothing they were
+ * loaded from has changed.
+ *
+ * @implNote
+ * The cache is keyed by a fingerprint of the data files, the registries and the
+ * contents of their codec registries, and the loaded mods. The snapshots are still
+ * decoded through the codecs of the registries. As the fingerprint only covers the
+ * data files, the cache must only hold what those files alone decode to, not any
+ * saved data or modifications made to the registries at runtime.
+ */
+public class DynamicRegistryCache {
+
+    /**
+     * A marker that represents all logging information for the registry cache.
+     */
+    private static final Marker CACHE = MarkerManager.getMarker("Registry Cache");
+    /**
+     * The version of the cache format. Changing the version invalidates all
+     * existing caches.
+     */
+    private static final int VERSION = 2;
+    /**
+     * The key holding the fingerprint of the cache.
+     */
+    private static final String FINGERPRINT = "fingerprint";
+    /**
+     * The key holding the snapshots of the registries.
+     */
+    private static final String REGISTRIES = "registries";
+
+    /**
+     * The file the cache is stored within.
+     */
+    private final Path file;
+    /**
+     * The last write of the cache, such that writes happen in the order they
+     * were requested.
+     */
+    private CompletableFuture<Void> pendingWrite;
+
+    /**
+     * Constructs a cache stored within the specified file.
+     *
+     * @param file the file the cache is stored within
+     */
+    public DynamicRegistryCache(final Path file) {
+        this.file = file;
+        this.pendingWrite = CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Computes the fingerprint of the data the registries are loaded from.
+     *
+     * @param manager the resource manager
+     * @param files the locations of the data files mapped by their identifier
+     * @return the fingerprint of the data
+     */
+    public static HashCode fingerprint(final IResourceManager manager, final Map<ResourceLocation, ResourceLocation> files) {
+        final Hasher hasher = Hashing.murmur3_128().newHasher().putInt(VERSION);
+        ModList.get().getMods().stream().sorted(Comparator.comparing(ModInfo::getModId)).forEach(mod -> {
+            putString(hasher, mod.getModId());
+            putString(hasher, String.valueOf(mod.getVersion()));
+        });
+        DynamicRegistryManager.STATIC.registries(DynamicRegistryManager.Lookup.ALL).sorted(Map.Entry.comparingByKey()).forEach(entry -> {
+            putString(hasher, entry.getKey().toString());
+            entry.getValue().getCodecRegistry().getKeys().stream().sorted().forEach(key -> putString(hasher, key.toString()));
+        });
+        new TreeMap<>(files).forEach((id, location) -> {
+            putString(hasher, id.toString());
+            try (IResource resource = manager.getResource(location);
+                 InputStream stream = resource.getInputStream()) {
+                ByteStreams.copy(stream, Funnels.asOutputStream(hasher));
+            } catch (IOException e) {
+                // The file will fail to be read again when reloading, so it only needs to be marked
+                hasher.putInt(-1);
+            }
+        });
+        return hasher.hash();
+    }
+
+    /**
+     * Writes a string to the hasher, prefixed by its length such that adjacent
+     * strings cannot produce the same input.
+     *
+     * @param hasher the hasher
+     * @param value the string to write
+     */
+    private static void putString(final Hasher hasher, final String value) {
+        hasher.putInt(value.length()).putUnencodedChars(value);
+    }
+
+    /**
+     * Reads the snapshots of the registries within the cache if the cache
+     * was written for the same fingerprint.
+     *
+     * @param fingerprint the fingerprint of the data the registries are loaded from
+     * @return the encoded snapshots of the registries, or {@code null} if there
+     *         is no cache for the fingerprint
+     */
+    @Nullable
+    public Map<ResourceLocation, INBT> read(final HashCode fingerprint) {
+        if (!Files.isRegularFile(this.file)) return null;
+        try {
+            final CompoundNBT tag = CompressedStreamTools.readCompressed(this.file.toFile());
+            if (!fingerprint.toString().equals(tag.getString(FINGERPRINT))) {
+                DynamicRegistries.LOGGER.debug(CACHE, "Registry cache {} is out of date, ignoring", this.file);
+                return null;
+            }
+            final CompoundNBT registries = tag.getCompound(REGISTRIES);
+            final Map<ResourceLocation, INBT> snapshots = new HashMap<>();
+            registries.getAllKeys().forEach(name ->
+                    snapshots.put(DynamicRegistryManager.DYNAMIC.updateLegacyName(ResourceLocationInterner.intern(name)), registries.get(name)));
+            return snapshots;
+        } catch (IOException | RuntimeException e) {
+            DynamicRegistries.LOGGER.warn(CACHE, "Could not read registry cache {}, ignoring", this.file, e);
+            return null;
+        }
+    }
+
+    /**
+     * Encodes the snapshots of the {@link DynamicRegistryManager#DYNAMIC} registries
+     * staged by a reload under the fingerprint, such that the cache can be encoded
+     * while preparing the reload rather than on the server thread.
+     *
+     * @param fingerprint the fingerprint of the data the registries were loaded from
+     * @return the encoded cache, or {@code null} if a registry could not be encoded
+     *
+     * @see DynamicRegistry#toStagedBinarySnapshot()
+     */
+    @Nullable
+    public CompoundNBT encode(final HashCode fingerprint) {
+        final CompoundNBT registries = new CompoundNBT();
+        for (Map.Entry<ResourceLocation, DynamicRegistry<?, ?>> entry : DynamicRegistryManager.DYNAMIC.registries(DynamicRegistryManager.Lookup.ALL).collect(Collectors.toList())) {
+            @Nullable final byte[] snapshot = entry.getValue().toStagedBinarySnapshot();
+            if (snapshot == null) {
+                DynamicRegistries.LOGGER.warn(CACHE, "Registry {} could not be encoded, skipping the registry cache", entry.getKey());
+                return null;
+            }
+            registries.putByteArray(entry.getKey().toString(), snapshot);
+        }
+        final CompoundNBT tag = new CompoundNBT();
+        tag.putString(FINGERPRINT, fingerprint.toString());
+        tag.put(REGISTRIES, registries);
+        return tag;
+    }
+
+    /**
+     * Writes an encoded cache to the file on the {@code executor}.
+     *
+     * @param tag the encoded cache
+     * @param executor the executor to write the file on
+     *
+     * @see #encode(HashCode)
+     */
+    public void write(final CompoundNBT tag, final Executor executor) {
+        this.pendingWrite = this.pendingWrite.thenRunAsync(() -> {
+            try {
+                Files.createDirectories(this.file.getParent());
+                // Written to a separate file first so a partially written cache is never read
+                final Path temp = this.file.resolveSibling(this.file.getFileName() + ".tmp");
+                CompressedStreamTools.writeCompressed(tag, temp.toFile());
+                Files.move(temp, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                DynamicRegistries.LOGGER.debug(CACHE, "Wrote registry cache {}", this.file);
+            } catch (IOException e) {
+                DynamicRegistries.LOGGER.warn(CACHE, "Could not write registry cache {}", this.file, e);
+            }
+        }, executor);
+    }
+}
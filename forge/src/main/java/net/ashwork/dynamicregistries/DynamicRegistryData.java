@@ -9,43 +9,446 @@
 
 package net.ashwork.dynamicregistries;
 
+import net.ashwork.dynamicregistries.entry.IDynamicEntry;
+import net.ashwork.dynamicregistries.registry.DynamicRegistry;
+import net.ashwork.dynamicregistries.registry.DynamicRegistryView;
 import net.ashwork.dynamicregistries.registry.ISnapshotDynamicRegistry;
+import net.ashwork.dynamicregistries.util.ResourceLocationInterner;
 import net.minecraft.nbt.CompoundNBT;
-import net.minecraft.nbt.INBT;
 import net.minecraft.nbt.NBTDynamicOps;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.world.storage.WorldSavedData;
 
 import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
 /**
  * A storage container to store persistent registry data. Since this will
  * persist across all dimensions, the data is stored on the Overworld.
+ *
+ * @implNote
+ * Each registry is stored within its own file in the {@code directory} of the
+ * container, such that only the files of the registries which have changed
+ * are written. Changes to a
+ * registry are appended to a journal next to its snapshot until the journal
+ * grows larger than the snapshot, at which point a new snapshot is written.
+ * Both files start with the generation of the snapshot, such that a journal
+ * left behind by an older snapshot is never replayed on top of a newer one.
+ * Data stored within the container itself by older versions is loaded as is
+ * and moved to the registry files on the next save.
  */
 public class DynamicRegistryData extends WorldSavedData {
 
+    /**
+     * The size in bytes a journal may always grow to before it is compacted
+     * into a new snapshot, regardless of the size of the snapshot.
+     */
+    private static final long MIN_COMPACTION_SIZE = 64 * 1024;
+    /**
+     * The size in bytes of the generation at the start of every registry file.
+     */
+    private static final int HEADER_SIZE = Long.BYTES;
+
+    /**
+     * The directory the files of the registries are stored within.
+     */
+    private final Path directory;
+    /**
+     * The contents of the registry files as last written or loaded by this
+     * container, mapped by the name of their registry.
+     */
+    private final Map<ResourceLocation, WrittenRegistry> writtenRegistries;
+    /**
+     * The snapshots being encoded for the next save mapped by the name of their
+     * registry.
+     */
+    private final Map<ResourceLocation, SavedSnapshot> pendingSnapshots;
+
     /**
      * Constructs the instance of this storage container.
+     *
+     * @param directory the directory the files of the registries are stored within
      */
-    public DynamicRegistryData() {
+    public DynamicRegistryData(final Path directory) {
         super(DynamicRegistries.ID);
+        this.directory = directory;
+        this.writtenRegistries = new HashMap<>();
+        this.pendingSnapshots = new HashMap<>();
     }
 
     @Override
     public void load(CompoundNBT tag) {
+        if (tag.isEmpty()) return;
         tag.getAllKeys().forEach(name ->
-                DynamicRegistryManager.DYNAMIC.getRegistry(DynamicRegistryManager.DYNAMIC.updateLegacyName(new ResourceLocation(name)))
+                DynamicRegistryManager.DYNAMIC.getRegistry(DynamicRegistryManager.DYNAMIC.updateLegacyName(ResourceLocationInterner.intern(name)))
                         .fromSnapshot(tag.get(name), NBTDynamicOps.INSTANCE, true)
         );
+        // Moves the data into the registry files
+        this.setDirty();
     }
 
-    @Override
-    public CompoundNBT save(CompoundNBT tag) {
+    /**
+     * Defers loading every registry with a file within the directory until
+     * {@link DynamicRegistryManager#loadPending()} is called. The journal of the registry is replayed
+     * on top of its snapshot if present. A registry that is loaded is treated as
+     * already written, so it is not written again until it changes, unless merging
+     * the saved data into the registry changed it, in which case the next save
+     * writes a new snapshot. If the files could not be read or decoded, the registry
+     * fails to load and is never saved, such that its files are not replaced.
+     *
+     * @see DynamicRegistry#deferLoad(Runnable)
+     */
+    public void deferLoads() {
         DynamicRegistryManager.DYNAMIC.registries(DynamicRegistryManager.Lookup.SAVE).forEach(entry -> {
-            @Nullable INBT encodedRegistry = entry.getValue().toSnapshot(NBTDynamicOps.INSTANCE);
-            if (encodedRegistry != null) tag.put(entry.getKey().toString(), encodedRegistry);
-            else DynamicRegistries.LOGGER.error(ISnapshotDynamicRegistry.SNAPSHOT, "Registry {} has thrown an error while encoding, skip saving", entry.getKey());
+            final Path file = this.getFile(entry.getKey(), ".dat"), journal = this.getFile(entry.getKey(), ".journal");
+            if (!Files.isRegularFile(file)) return;
+            final DynamicRegistry<?, ?> registry = entry.getValue();
+            registry.deferLoad(() -> {
+                final byte[] encodedRegistry;
+                @Nullable byte[] encodedJournal;
+                try {
+                    encodedRegistry = Files.readAllBytes(file);
+                    encodedJournal = Files.isRegularFile(journal) ? Files.readAllBytes(journal) : null;
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Could not read registry " + entry.getKey() + " from " + file, e);
+                }
+                if (encodedRegistry.length < HEADER_SIZE)
+                    throw new IllegalStateException("Could not read registry " + entry.getKey() + " from " + file + ": missing header");
+                final long generation = readGeneration(encodedRegistry);
+                if (encodedJournal != null && (encodedJournal.length < HEADER_SIZE || readGeneration(encodedJournal) != generation)) {
+                    // Left behind when a save stopped between replacing the snapshot and removing the journal
+                    DynamicRegistries.LOGGER.warn(ISnapshotDynamicRegistry.SNAPSHOT, "Journal {} was not written for the snapshot of {}, ignoring", journal, entry.getKey());
+                    encodedJournal = null;
+                }
+                final boolean unchanged = registry.loadBinarySnapshot(Arrays.copyOfRange(encodedRegistry, HEADER_SIZE, encodedRegistry.length),
+                        encodedJournal != null ? Arrays.copyOfRange(encodedJournal, HEADER_SIZE, encodedJournal.length) : null);
+                final long journalSize = encodedJournal != null ? encodedJournal.length : 0;
+                this.writtenRegistries.put(entry.getKey(), unchanged
+                        ? new WrittenRegistry(registry, registry.getModificationCount(), registry.getView(), generation, encodedRegistry.length, journalSize)
+                        : new WrittenRegistry(generation, encodedRegistry.length, journalSize));
+                DynamicRegistries.LOGGER.debug(ISnapshotDynamicRegistry.SNAPSHOT, "Loaded registry {} from {}", entry.getKey(), file);
+            });
         });
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote
+     * Only the files of registries which have changed since the last save are
+     * written. Registries which have not been loaded yet or failed to load are
+     * left untouched. Snapshots already being encoded by {@link #encodeChanges(Executor)}
+     * are awaited rather than encoded again.
+     */
+    @Override
+    public CompoundNBT save(CompoundNBT tag) {
+        int writtenFiles = 0;
+        for (Map.Entry<ResourceLocation, DynamicRegistry<?, ?>> entry : DynamicRegistryManager.DYNAMIC.registries(DynamicRegistryManager.Lookup.SAVE).collect(Collectors.toList())) {
+            final DynamicRegistry<?, ?> registry = entry.getValue();
+            if (registry.isLoadPending() || registry.isLoadFailed()) continue;
+            @Nullable final WrittenRegistry written = this.writtenRegistries.get(entry.getKey());
+            @Nullable SavedSnapshot snapshot = this.pendingSnapshots.remove(entry.getKey());
+            if (snapshot == null || !snapshot.isCurrent(registry)) {
+                if (written != null && written.isCurrent(registry)) continue;
+                snapshot = SavedSnapshot.encode(registry, written, Runnable::run);
+            }
+
+            @Nullable final byte[] encodedRegistry = snapshot.encodedRegistry.join();
+            if (encodedRegistry == null) {
+                DynamicRegistries.LOGGER.error(ISnapshotDynamicRegistry.SNAPSHOT, "Registry {} has thrown an error while encoding, skip saving", entry.getKey());
+                continue;
+            }
+            try {
+                this.writtenRegistries.put(entry.getKey(), snapshot.journal
+                        ? this.appendJournal(entry.getKey(), written, snapshot, encodedRegistry)
+                        : this.writeSnapshot(entry.getKey(), written, snapshot, encodedRegistry));
+                if (encodedRegistry.length > 0) writtenFiles++;
+            } catch (IOException e) {
+                // The next save writes a new snapshot in case the journal was left incomplete
+                this.writtenRegistries.remove(entry.getKey());
+                DynamicRegistries.LOGGER.error(ISnapshotDynamicRegistry.SNAPSHOT, "Could not write registry {} to {}", entry.getKey(), this.directory, e);
+            }
+        }
+        DynamicRegistries.LOGGER.debug(ISnapshotDynamicRegistry.SNAPSHOT, "Wrote {} registry files to {}", writtenFiles, this.directory);
         return tag;
     }
+
+    /**
+     * Writes a snapshot to the file of the registry under a new generation,
+     * replacing its previous snapshot and journal.
+     *
+     * @implNote
+     * The snapshot is moved into place before the journal is removed, so the
+     * changes within the journal are never lost. Should the save stop in between,
+     * the journal is ignored on the next load as its generation no longer matches.
+     * The generation is never lower than the current time in milliseconds, such
+     * that a journal left behind by a snapshot this container does not know of
+     * is unlikely to share its generation.
+     *
+     * @param name the name of the registry
+     * @param written the contents of the registry files, or {@code null} if unknown
+     * @param snapshot the snapshot being written
+     * @param encodedRegistry the encoded snapshot
+     * @return the contents of the registry files
+     * @throws IOException if the snapshot could not be written
+     */
+    private WrittenRegistry writeSnapshot(final ResourceLocation name, @Nullable final WrittenRegistry written, final SavedSnapshot snapshot, final byte[] encodedRegistry) throws IOException {
+        final long generation = Math.max(written != null ? written.generation + 1 : 0L, System.currentTimeMillis());
+        final Path file = this.getFile(name, ".dat");
+        Files.createDirectories(file.getParent());
+        // Written to a separate file first so a partially written registry is never read
+        final Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temp, ByteBuffer.allocate(HEADER_SIZE + encodedRegistry.length).putLong(generation).put(encodedRegistry).array());
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Files.deleteIfExists(this.getFile(name, ".journal"));
+        return new WrittenRegistry(snapshot, generation, HEADER_SIZE + encodedRegistry.length, 0);
+    }
+
+    /**
+     * Appends a journal record to the journal of the registry. If no journal
+     * has been written for the current snapshot, a new journal stamped with
+     * the generation of the snapshot is started instead.
+     *
+     * @param name the name of the registry
+     * @param written the contents of the registry files the record was made from
+     * @param snapshot the snapshot holding the record
+     * @param record the encoded journal record, or an empty array if nothing has changed
+     * @return the contents of the registry files
+     * @throws IOException if the record could not be written
+     */
+    private WrittenRegistry appendJournal(final ResourceLocation name, final WrittenRegistry written, final SavedSnapshot snapshot, final byte[] record) throws IOException {
+        if (record.length == 0) return new WrittenRegistry(snapshot, written.generation, written.snapshotSize, written.journalSize);
+        if (written.journalSize > 0) {
+            Files.write(this.getFile(name, ".journal"), record, StandardOpenOption.APPEND);
+            return new WrittenRegistry(snapshot, written.generation, written.snapshotSize, written.journalSize + record.length);
+        }
+        // A new journal replaces any journal left behind by another snapshot
+        Files.write(this.getFile(name, ".journal"), ByteBuffer.allocate(HEADER_SIZE + record.length).putLong(written.generation).put(record).array(),
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        return new WrittenRegistry(snapshot, written.generation, written.snapshotSize, HEADER_SIZE + record.length);
+    }
+
+    /**
+     * Starts encoding the registries which have changed since they were last
+     * encoded on the {@code executor}, such that the next save only needs to
+     * await the finished snapshots. The published views of the registries are
+     * captured on the calling thread.
+     *
+     * @param executor the executor to encode the snapshots on
+     * @return {@code true} if any registry has changed, otherwise {@code false}
+     */
+    public boolean encodeChanges(final Executor executor) {
+        boolean changed = false;
+        for (Map.Entry<ResourceLocation, DynamicRegistry<?, ?>> entry : DynamicRegistryManager.DYNAMIC.registries(DynamicRegistryManager.Lookup.SAVE).collect(Collectors.toList())) {
+            final DynamicRegistry<?, ?> registry = entry.getValue();
+            if (registry.isLoadPending() || registry.isLoadFailed()) continue;
+            @Nullable final SavedSnapshot snapshot = this.pendingSnapshots.get(entry.getKey());
+            @Nullable final WrittenRegistry written = this.writtenRegistries.get(entry.getKey());
+            if (snapshot != null ? snapshot.isCurrent(registry) : written != null && written.isCurrent(registry)) continue;
+            this.pendingSnapshots.put(entry.getKey(), SavedSnapshot.encode(registry, written, executor));
+            changed = true;
+        }
+        return changed;
+    }
+
+    /**
+     * Reads the generation at the start of a registry file.
+     *
+     * @param contents the contents of the registry file
+     * @return the generation of the snapshot the file was written for
+     */
+    private static long readGeneration(final byte[] contents) {
+        return ByteBuffer.wrap(contents, 0, HEADER_SIZE).getLong();
+    }
+
+    /**
+     * Gets a file of a registry.
+     *
+     * @param name the name of the registry
+     * @param extension the extension of the file
+     * @return the file of the registry
+     */
+    private Path getFile(final ResourceLocation name, final String extension) {
+        return this.directory.resolve(name.getNamespace()).resolve(name.getPath() + extension);
+    }
+
+    /**
+     * A snapshot or journal record of a registry being encoded for a save along
+     * with the view and modification count of the registry it was encoded from.
+     */
+    private static final class SavedSnapshot {
+
+        /**
+         * The registry the snapshot was encoded from.
+         */
+        private final DynamicRegistry<?, ?> registry;
+        /**
+         * The modification count of the registry when the snapshot was encoded.
+         */
+        private final int modificationCount;
+        /**
+         * The view of the registry the snapshot was encoded from.
+         */
+        private final DynamicRegistryView<?> view;
+        /**
+         * The encoded snapshot, completing with {@code null} if the registry could
+         * not be encoded.
+         */
+        private final CompletableFuture<byte[]> encodedRegistry;
+        /**
+         * When {@code true}, the snapshot is a journal record of the changes since
+         * the registry files were last written.
+         */
+        private final boolean journal;
+
+        /**
+         * Constructs a saved snapshot.
+         *
+         * @param registry the registry the snapshot was encoded from
+         * @param modificationCount the modification count of the registry when the snapshot was encoded
+         * @param view the view of the registry the snapshot was encoded from
+         * @param encodedRegistry the encoded snapshot
+         * @param journal if the snapshot is a journal record
+         */
+        private SavedSnapshot(final DynamicRegistry<?, ?> registry, final int modificationCount, final DynamicRegistryView<?> view,
+                              final CompletableFuture<byte[]> encodedRegistry, final boolean journal) {
+            this.registry = registry;
+            this.modificationCount = modificationCount;
+            this.view = view;
+            this.encodedRegistry = encodedRegistry;
+            this.journal = journal;
+        }
+
+        /**
+         * Starts encoding the currently published view of the registry. Only the
+         * changes since the registry files were last written are encoded unless
+         * the journal of the registry needs to be compacted.
+         *
+         * @param registry the registry to encode
+         * @param written the contents of the registry files, or {@code null} if unknown
+         * @param executor the executor to encode the snapshot on
+         * @param <V> the super type of the dynamic registry entry
+         * @return the snapshot being encoded
+         */
+        private static <V extends IDynamicEntry<V>> SavedSnapshot encode(final DynamicRegistry<V, ?> registry, @Nullable final WrittenRegistry written, final Executor executor) {
+            // The count is read before the view is captured so a change published in between is encoded again
+            final int modificationCount = registry.getModificationCount();
+            final DynamicRegistryView<V> view = registry.getView();
+            if (written != null && written.registry == registry && written.journalSize < Math.max(MIN_COMPACTION_SIZE, written.snapshotSize))
+                return new SavedSnapshot(registry, modificationCount, view, registry.toBinaryJournalAsync(written.view, view, executor), true);
+            return new SavedSnapshot(registry, modificationCount, view, registry.toBinarySnapshotAsync(view, executor), false);
+        }
+
+        /**
+         * Checks whether the snapshot still matches the contents of the registry.
+         *
+         * @param registry the registry to check
+         * @return {@code true} if the registry has not changed since the snapshot was encoded
+         */
+        private boolean isCurrent(final DynamicRegistry<?, ?> registry) {
+            return this.registry == registry && this.modificationCount == registry.getModificationCount();
+        }
+    }
+
+    /**
+     * The contents of the files of a registry as last written by a save.
+     */
+    private static final class WrittenRegistry {
+
+        /**
+         * The registry the files were written from, or {@code null} if the files
+         * do not hold the current contents of any registry.
+         */
+        @Nullable
+        private final DynamicRegistry<?, ?> registry;
+        /**
+         * The modification count of the registry the files were written from.
+         */
+        private final int modificationCount;
+        /**
+         * The view of the registry the files hold once the journal is replayed,
+         * or {@code null} if the files do not hold the current contents of any registry.
+         */
+        @Nullable
+        private final DynamicRegistryView<?> view;
+        /**
+         * The generation of the snapshot the files were written for.
+         */
+        private final long generation;
+        /**
+         * The size of the snapshot file in bytes.
+         */
+        private final long snapshotSize;
+        /**
+         * The size of the journal file in bytes.
+         */
+        private final long journalSize;
+
+        /**
+         * Constructs the contents of the files of a registry.
+         *
+         * @param snapshot the snapshot last written to the files
+         * @param generation the generation of the snapshot the files were written for
+         * @param snapshotSize the size of the snapshot file in bytes
+         * @param journalSize the size of the journal file in bytes
+         */
+        private WrittenRegistry(final SavedSnapshot snapshot, final long generation, final long snapshotSize, final long journalSize) {
+            this(snapshot.registry, snapshot.modificationCount, snapshot.view, generation, snapshotSize, journalSize);
+        }
+
+        /**
+         * Constructs the contents of the files of a registry which no longer
+         * match the contents of the registry, such that the next save writes
+         * a new snapshot.
+         *
+         * @param generation the generation of the snapshot the files were written for
+         * @param snapshotSize the size of the snapshot file in bytes
+         * @param journalSize the size of the journal file in bytes
+         */
+        private WrittenRegistry(final long generation, final long snapshotSize, final long journalSize) {
+            this(null, -1, null, generation, snapshotSize, journalSize);
+        }
+
+        /**
+         * Constructs the contents of the files of a registry.
+         *
+         * @param registry the registry the files were written from or loaded into
+         * @param modificationCount the modification count of the registry matching the files
+         * @param view the view of the registry the files hold once the journal is replayed
+         * @param generation the generation of the snapshot the files were written for
+         * @param snapshotSize the size of the snapshot file in bytes
+         * @param journalSize the size of the journal file in bytes
+         */
+        private WrittenRegistry(@Nullable final DynamicRegistry<?, ?> registry, final int modificationCount, @Nullable final DynamicRegistryView<?> view,
+                                final long generation, final long snapshotSize, final long journalSize) {
+            this.registry = registry;
+            this.modificationCount = modificationCount;
+            this.view = view;
+            this.generation = generation;
+            this.snapshotSize = snapshotSize;
+            this.journalSize = journalSize;
+        }
+
+        /**
+         * Checks whether the files still match the contents of the registry.
+         *
+         * @param registry the registry to check
+         * @return {@code true} if the registry has not changed since the files were written
+         */
+        private boolean isCurrent(final DynamicRegistry<?, ?> registry) {
+            return this.registry == registry && this.modificationCount == registry.getModificationCount();
+        }
+    }
 }
@@ -9,39 +9,171 @@
 
 package net.ashwork.dynamicregistries;
 
+import com.google.common.hash.HashCode;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
 import com.mojang.serialization.JsonOps;
-import net.minecraft.client.resources.JsonReloadListener;
+import net.ashwork.dynamicregistries.util.ResourceLocationInterner;
+import net.minecraft.client.resources.ReloadListener;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.INBT;
+import net.minecraft.nbt.NBTDynamicOps;
 import net.minecraft.profiler.IProfiler;
+import net.minecraft.resources.IResource;
 import net.minecraft.resources.IResourceManager;
+import net.minecraft.util.JSONUtils;
 import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.Util;
+import net.minecraftforge.fml.loading.FMLPaths;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.MarkerManager;
 
+import javax.annotation.Nullable;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * A reload listener used for handling registry load within the dynamic registry.
+ *
+ * @implNote
+ * All data is read and decoded into the registries while preparing the reload,
+ * away from the server thread, while applying the reload only publishes the
+ * prepared registries. Each file is read and parsed when its registry decodes
+ * it and dropped right after, so the parsed data of the entire data folder is
+ * never held at once.
+ * <p>
+ * A reload which starts while the registries are empty, and as such only holds
+ * what the data files decode to, is written to a {@link DynamicRegistryCache} keyed
+ * by the data they were loaded from. The first load after the server starts restores
+ * the registries from the cache instead if none of that data has changed. The data
+ * files are only fingerprinted when the cache is read or written, so other reloads
+ * do not read the files more than once.
  */
-public class DynamicRegistryListener extends JsonReloadListener {
+public class DynamicRegistryListener extends ReloadListener<Runnable> {
+
+    /**
+     * A marker that represents all logging information while reading data files.
+     */
+    private static final Marker READ = MarkerManager.getMarker("Read Data");
 
     /**
      * A {@link Gson} instance. Only used for transmuting a string to a {@link JsonElement}.
      */
     private static final Gson GSON = new GsonBuilder().disableHtmlEscaping().setPrettyPrinting().create();
+    /**
+     * The data folder the registry data is located within.
+     */
+    private static final String DIRECTORY = "dynamic_registries";
+    /**
+     * The extension of the data files.
+     */
+    private static final String EXTENSION = ".json";
+
+    /**
+     * The cache of the registries from the last reload.
+     */
+    private final DynamicRegistryCache cache;
+    /**
+     * When {@code true}, the next load may restore the registries from the cache.
+     */
+    private volatile boolean warmStart;
 
     /**
      * Constructs the listener under the {@code dynamic_registries} data folder.
      */
     public DynamicRegistryListener() {
-        super(GSON, "dynamic_registries");
+        this.cache = new DynamicRegistryCache(FMLPaths.GAMEDIR.get().resolve(DIRECTORY).resolve("cache.dat"));
+        this.warmStart = true;
+    }
+
+    /**
+     * Allows the next load to restore the registries from the cache, such as
+     * when the registries have been cleared after the server stopped.
+     */
+    public void resetWarmStart() {
+        this.warmStart = true;
+    }
+
+    /**
+     * Gathers the locations of all data files within the data folder and
+     * decodes them into the registries without publishing them.
+     *
+     * @param manager the resource manager
+     * @param profiler the profiler
+     * @return an action which publishes the reloaded registries
+     */
+    @Override
+    protected Runnable prepare(final IResourceManager manager, final IProfiler profiler) {
+        profiler.push("dynamic_registries_prepare");
+        final Map<ResourceLocation, ResourceLocation> files = new HashMap<>();
+        final int prefixLength = DIRECTORY.length() + 1;
+        for (ResourceLocation file : manager.listResources(DIRECTORY, path -> path.endsWith(EXTENSION))) {
+            final String path = file.getPath();
+            files.put(ResourceLocationInterner.intern(file.getNamespace(), path.substring(prefixLength, path.length() - EXTENSION.length())), file);
+        }
+        final Function<ResourceLocation, JsonElement> reader = id -> read(manager, id, files.get(id));
+        // Anything already within the registries, such as saved data, would otherwise end up in the cache
+        final boolean cacheable = DynamicRegistryManager.DYNAMIC.isEmpty();
+        @Nullable final HashCode fingerprint = this.warmStart || cacheable ? DynamicRegistryCache.fingerprint(manager, files) : null;
+
+        if (this.warmStart) {
+            this.warmStart = false;
+            @Nullable final Map<ResourceLocation, INBT> snapshots = this.cache.read(fingerprint);
+            @Nullable final Runnable publish = snapshots != null ? DynamicRegistryManager.DYNAMIC.prepareSnapshotReload(snapshots, NBTDynamicOps.INSTANCE,
+                    files.keySet(), reader, JsonOps.INSTANCE, DynamicRegistryManager.STATIC) : null;
+            if (publish != null) {
+                DynamicRegistries.LOGGER.info(READ, "Restored dynamic registries from their cache");
+                profiler.pop();
+                return publish;
+            }
+            // The registry which could not be restored is logged while preparing the snapshot reload
+            if (snapshots != null) DynamicRegistries.LOGGER.debug(READ, "Could not restore dynamic registries from their cache, reloading them from their data");
+        }
+
+        final Runnable publish = DynamicRegistryManager.DYNAMIC.prepareReload(files.keySet(), reader, JsonOps.INSTANCE, DynamicRegistryManager.STATIC, Util.backgroundExecutor(), profiler);
+        @Nullable final CompoundNBT cached = cacheable ? this.cache.encode(fingerprint) : null;
+        profiler.pop();
+        if (cached == null) return publish;
+        return () -> {
+            publish.run();
+            this.cache.write(cached, Util.ioPool());
+        };
     }
 
     @Override
-    protected void apply(final Map<ResourceLocation, JsonElement> entries, final IResourceManager manager, final IProfiler profiler) {
+    protected void apply(final Runnable publish, final IResourceManager manager, final IProfiler profiler) {
         profiler.push("dynamic_registries_reload");
-        DynamicRegistryManager.DYNAMIC.reload(entries, JsonOps.INSTANCE, DynamicRegistryManager.STATIC);
+        publish.run();
         DynamicRegistries.instance().invalidate();
         profiler.pop();
     }
+
+    /**
+     * Reads and parses a data file.
+     *
+     * @param manager the resource manager
+     * @param id the identifier of the data
+     * @param file the location of the data file
+     * @return the parsed data, or {@code null} if the file could not be read
+     */
+    @Nullable
+    private static JsonElement read(final IResourceManager manager, final ResourceLocation id, final ResourceLocation file) {
+        try (IResource resource = manager.getResource(file);
+             Reader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            @Nullable final JsonElement json = JSONUtils.fromJson(GSON, reader, JsonElement.class);
+            if (json != null) return json;
+            DynamicRegistries.LOGGER.error(READ, "Couldn't load data file {} from {} as it's null or empty", id, file);
+        } catch (IllegalArgumentException | IOException | JsonParseException e) {
+            DynamicRegistries.LOGGER.error(READ, "Couldn't parse data file {} from {}", id, file, e);
+        }
+        return null;
+    }
 }
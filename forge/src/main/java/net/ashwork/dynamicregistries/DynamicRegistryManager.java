@@ -18,15 +18,22 @@ import net.ashwork.dynamicregistries.entry.ICodecEntry;
 import net.ashwork.dynamicregistries.entry.IDynamicEntry;
 import net.ashwork.dynamicregistries.network.DynamicRegistryPacket;
 import net.ashwork.dynamicregistries.registry.*;
-import net.minecraft.nbt.CompoundNBT;
-import net.minecraft.nbt.NBTDynamicOps;
+import net.ashwork.dynamicregistries.util.ResourceLocationInterner;
+import net.minecraft.profiler.EmptyProfiler;
+import net.minecraft.profiler.IProfiler;
 import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.Util;
 import net.minecraftforge.fml.network.PacketDistributor;
 import org.apache.logging.log4j.Marker;
 import org.apache.logging.log4j.MarkerManager;
 
 import javax.annotation.Nullable;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -56,6 +63,10 @@ public class DynamicRegistryManager {
      * A marker that represents all logging information while reloading a registry.
      */
     private static final Marker RELOAD = MarkerManager.getMarker("Reload Registry");
+    /**
+     * The folder within the registry data which holds the missing entry strategies.
+     */
+    private static final String MISSING_MAPPINGS = "missing_mappings";
 
     /**
      * The stage name of the manager.
@@ -77,6 +88,21 @@ public class DynamicRegistryManager {
      * The prior names of the registries.
      */
     private final Map<ResourceLocation, ResourceLocation> legacyNames;
+    /**
+     * The report of the last reload published by this manager.
+     */
+    @Nullable
+    private volatile ReloadReport lastReloadReport;
+    /**
+     * The number of reloads prepared by this manager. Only the last prepared
+     * reload may be published.
+     */
+    private volatile int preparedReloads;
+    /**
+     * When {@code true}, a registry within this manager has been published
+     * since the last time it was polled.
+     */
+    private final AtomicBoolean modified;
 
     /**
      * Constructs a staged manager.
@@ -90,6 +116,7 @@ public class DynamicRegistryManager {
         this.synced = new HashSet<>();
         this.saved = new HashSet<>();
         this.legacyNames = new HashMap<>();
+        this.modified = new AtomicBoolean();
     }
 
     /**
@@ -158,32 +185,428 @@ public class DynamicRegistryManager {
 
     /**
      * Reloads all dynamic registries with the static data from the {@code currentStage}
-     * and then registers the encoded data.
+     * and then registers the encoded data. Independent registries are reloaded in
+     * parallel on the background executor.
      *
      * @param entries a map of identifiers to encoded registry objects
      * @param ops the operator used to transmute the encoded object
      * @param currentStage the current stage of the registry the data is promoted from
      * @param <T> the type of the encoded object
+     *
+     * @see #reload(Map, DynamicOps, DynamicRegistryManager, Executor)
      */
     public <T> void reload(final Map<ResourceLocation, T> entries, final DynamicOps<T> ops, final DynamicRegistryManager currentStage) {
-        final Map<ResourceLocation, Map<ResourceLocation, T>> registryEntries = new HashMap<>();
-        final Map<ResourceLocation, Set<T>> missingEntryStrategies = new HashMap<>();
-        entries.forEach((id, encodedEntry) -> {
+        this.reload(entries, ops, currentStage, Util.backgroundExecutor());
+    }
+
+    /**
+     * Reloads all dynamic registries with the static data from the {@code currentStage}
+     * and then registers the encoded data.
+     *
+     * @param entries a map of identifiers to encoded registry objects
+     * @param ops the operator used to transmute the encoded object
+     * @param currentStage the current stage of the registry the data is promoted from
+     * @param executor the executor to reload the registries of a wave on
+     * @param <T> the type of the encoded object
+     *
+     * @see #reload(Collection, Function, DynamicOps, DynamicRegistryManager, Executor)
+     */
+    public <T> void reload(final Map<ResourceLocation, T> entries, final DynamicOps<T> ops, final DynamicRegistryManager currentStage, final Executor executor) {
+        this.reload(entries.keySet(), entries::get, ops, currentStage, executor);
+    }
+
+    /**
+     * Reloads all dynamic registries with the static data from the {@code currentStage}
+     * and then registers the encoded data, reading each encoded registry object only
+     * when its registry is reloaded.
+     *
+     * @implSpec
+     * Registries are reloaded in dependency waves such that every registry is reloaded
+     * after the registries it {@link DynamicRegistryBuilder#dependsOn(ResourceLocation) depends on}.
+     * The registries within a wave are decoded in parallel on the {@code executor}. Only
+     * once the whole wave has been decoded are its registries locked, one at a time in
+     * order of their name, so later waves decode against them and the resulting
+     * registries do not depend on how the work was scheduled. The locked registries
+     * are published together after the last wave, once all references are linked.
+     *
+     * @param ids the identifiers of the encoded registry objects
+     * @param reader reads an encoded registry object from its identifier, returning
+     *               {@code null} if it could not be read
+     * @param ops the operator used to transmute the encoded object
+     * @param currentStage the current stage of the registry the data is promoted from
+     * @param executor the executor to reload the registries of a wave on
+     * @param <T> the type of the encoded object
+     *
+     * @see #prepareReload(Collection, Function, DynamicOps, DynamicRegistryManager, Executor)
+     */
+    public <T> void reload(final Collection<ResourceLocation> ids, final Function<ResourceLocation, ? extends T> reader, final DynamicOps<T> ops, final DynamicRegistryManager currentStage, final Executor executor) {
+        this.prepareReload(ids, reader, ops, currentStage, executor).run();
+    }
+
+    /**
+     * Reloads all dynamic registries with the static data from the {@code currentStage}
+     * and registers the encoded data without publishing the result. Readers continue
+     * to see the previous data until the returned action is run, which only swaps the
+     * prepared data in. As such, this method can be called away from the threads
+     * reading the registries.
+     *
+     * @implSpec
+     * Registries are reloaded in waves such that every registry is reloaded after the
+     * registries it {@link DynamicRegistryBuilder#dependsOn(ResourceLocation) depends on}
+     * have been prepared. The registries within a wave are decoded in parallel on the
+     * {@code executor} and then staged one at a time in order of their name. Registry
+     * objects decoded during the reload are looked up within the views staged by the
+     * earlier waves through a {@link ReloadOps}, while everything else continues to see
+     * the published views. The prepared registries are published one at a time in order
+     * of their name. If any registry fails to reload, the prepared data of every registry
+     * is discarded and the failure is rethrown.
+     * <p>
+     * Data prepared by an earlier reload which was never published is discarded, and the
+     * returned action does nothing if another reload has been prepared since.
+     * <p>
+     * Registries being promoted for the first time are added to this manager while
+     * preparing, which should only occur before the registries are read elsewhere.
+     *
+     * @param ids the identifiers of the encoded registry objects
+     * @param reader reads an encoded registry object from its identifier, returning
+     *               {@code null} if it could not be read
+     * @param ops the operator used to transmute the encoded object
+     * @param currentStage the current stage of the registry the data is promoted from
+     * @param executor the executor to reload the registries of a wave on
+     * @param <T> the type of the encoded object
+     * @return an action which publishes the reloaded registries
+     *
+     * @see DynamicRegistry#registerAll(Collection, Function, DynamicOps, Executor)
+     */
+    public <T> Runnable prepareReload(final Collection<ResourceLocation> ids, final Function<ResourceLocation, ? extends T> reader, final DynamicOps<T> ops, final DynamicRegistryManager currentStage, final Executor executor) {
+        return this.prepareReload(ids, reader, ops, currentStage, executor, EmptyProfiler.INSTANCE);
+    }
+
+    /**
+     * Reloads all dynamic registries with the static data from the {@code currentStage}
+     * and registers the encoded data without publishing the result, profiling each
+     * phase of the reload.
+     *
+     * @implNote
+     * The phases performed on the calling thread are pushed as sections of the
+     * {@code profiler}. As profilers cannot be shared between threads, the phases
+     * performed for each registry are instead timed within the {@link ReloadReport},
+     * which is available from {@link #getLastReloadReport()} once the reload is published.
+     *
+     * @param ids the identifiers of the encoded registry objects
+     * @param reader reads an encoded registry object from its identifier, returning
+     *               {@code null} if it could not be read
+     * @param ops the operator used to transmute the encoded object
+     * @param currentStage the current stage of the registry the data is promoted from
+     * @param executor the executor to reload the registries of a wave on
+     * @param profiler the profiler of the calling thread
+     * @param <T> the type of the encoded object
+     * @return an action which publishes the reloaded registries
+     *
+     * @see #prepareReload(Collection, Function, DynamicOps, DynamicRegistryManager, Executor)
+     */
+    public <T> Runnable prepareReload(final Collection<ResourceLocation> ids, final Function<ResourceLocation, ? extends T> reader, final DynamicOps<T> ops,
+                                      final DynamicRegistryManager currentStage, final Executor executor, final IProfiler profiler) {
+        final int reload = this.beginReload();
+        final ReloadOps<T> reloadOps = new ReloadOps<>(ops);
+        final ReloadReport report = new ReloadReport(false);
+        profiler.push(ReloadReport.Phase.ROUTING.getName());
+        long start = System.nanoTime();
+        final Map<ResourceLocation, Map<ResourceLocation, ResourceLocation>> registryEntries = new HashMap<>();
+        final Map<ResourceLocation, Set<T>> missingEntryStrategies = this.readMissingEntryStrategies(ids, reader);
+        ids.forEach(id -> {
             String[] paths = id.getPath().split("/", 3);
-            if (paths[0].equals("missing_mappings")) missingEntryStrategies.computeIfAbsent(this.updateLegacyName(new ResourceLocation(paths[1], paths[2])), u -> new HashSet<>()).add(encodedEntry);
-            else registryEntries.computeIfAbsent(this.updateLegacyName(new ResourceLocation(paths[0], paths[1])), u -> new HashMap<>()).put(new ResourceLocation(id.getNamespace(), paths[2]), encodedEntry);
+            if (!paths[0].equals(MISSING_MAPPINGS))
+                registryEntries.computeIfAbsent(this.updateLegacyName(ResourceLocationInterner.intern(paths[0], paths[1])), u -> new HashMap<>()).put(ResourceLocationInterner.intern(id.getNamespace(), paths[2]), id);
         });
         DynamicRegistries.LOGGER.debug(RELOAD, "Found data for {} registries", registryEntries.size());
-        currentStage.registries.keySet().forEach(name -> {
-            DynamicRegistries.LOGGER.debug(IRegistrableDynamicRegistry.REGISTER, "Register data to {}", name);
+        report.time(ReloadReport.Phase.ROUTING, System.nanoTime() - start);
+
+        // Promotion modifies the manager, so it must happen before any registry is reloaded in parallel
+        profiler.popPush(ReloadReport.Phase.PROMOTION.getName());
+        start = System.nanoTime();
+        final Map<ResourceLocation, DynamicRegistry<?, ?>> reloading = new TreeMap<>();
+        new TreeSet<>(currentStage.registries.keySet()).forEach(name -> {
+            DynamicRegistry<?, ?> registry = this.promoteFromStage(name, currentStage);
+            if (registry != null) reloading.put(name, registry);
+            else DynamicRegistries.LOGGER.error(IRegistrableDynamicRegistry.REGISTER, "Registry promotion for {} has returned null, skipping", name);
+        });
+        report.time(ReloadReport.Phase.PROMOTION, System.nanoTime() - start);
+        reloading.values().forEach(DynamicRegistry::startLinking);
+
+        profiler.popPush(ReloadReport.Phase.WAVES.getName());
+        start = System.nanoTime();
+        for (List<ResourceLocation> wave : this.reloadWaves(reloading)) {
+            profiler.push("wave");
+            DynamicRegistries.LOGGER.debug(RELOAD, "Reloading {} in parallel", wave);
+            final List<CompletableFuture<Void>> tasks = new ArrayList<>(wave.size());
+            wave.forEach(name -> {
+                DynamicRegistries.LOGGER.debug(IRegistrableDynamicRegistry.REGISTER, "Register data to {}", name);
+                final DynamicRegistry<?, ?> registry = reloading.get(name);
+                final ReloadReport.RegistryReport registryReport = report.registry(name);
+                tasks.add(CompletableFuture.runAsync(() -> {
+                    long phaseStart = System.nanoTime();
+                    Set<ResourceLocation> oldEntries = registry.setAndUnlockFromStage(currentStage);
+                    registryReport.time(ReloadReport.Phase.SET_FROM_STAGE, System.nanoTime() - phaseStart);
+
+                    phaseStart = System.nanoTime();
+                    final Map<ResourceLocation, ResourceLocation> entryIds = registryEntries.getOrDefault(registry.getName(), Collections.emptyMap());
+                    registry.registerAll(entryIds.keySet(), key -> reader.apply(entryIds.get(key)), reloadOps, executor, registryReport);
+                    registryReport.time(ReloadReport.Phase.DECODE, System.nanoTime() - phaseStart);
+
+                    phaseStart = System.nanoTime();
+                    registry.postReloadedEntries(oldEntries, missingEntryStrategies.getOrDefault(name, Collections.emptySet()), reloadOps);
+                    registryReport.time(ReloadReport.Phase.MISSING_ENTRIES, System.nanoTime() - phaseStart);
+                }, executor));
+            });
+
+            // Every registry within the wave finishes before the failure is rethrown
+            @Nullable RuntimeException failure = null;
+            for (int i = 0; i < wave.size(); i++) {
+                try {
+                    tasks.get(i).join();
+                } catch (CompletionException e) {
+                    DynamicRegistries.LOGGER.error(RELOAD, "Failed to reload {}", wave.get(i), e.getCause());
+                    if (failure == null) failure = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+                }
+            }
+            if (failure != null) {
+                reloading.values().forEach(DynamicRegistry::discardStaged);
+                profiler.pop();
+                profiler.pop();
+                throw failure;
+            }
+
+            // The wave is staged in order once decoded, so the next wave sees the same views however the work was scheduled
+            for (ResourceLocation name : wave) {
+                final long lockStart = System.nanoTime();
+                reloadOps.stage(reloading.get(name));
+                report.registry(name).time(ReloadReport.Phase.LOCK, System.nanoTime() - lockStart);
+            }
+            profiler.pop();
+        }
+        report.time(ReloadReport.Phase.WAVES, System.nanoTime() - start);
+
+        // References are linked once every registry has been decoded, so all failures are reported together
+        profiler.popPush(ReloadReport.Phase.LINK.getName());
+        start = System.nanoTime();
+        final Map<ResourceLocation, Set<ResourceLocation>> unresolved = new TreeMap<>();
+        reloading.forEach((name, registry) -> {
+            final Set<ResourceLocation> unresolvedReferences = registry.link();
+            report.registry(name).unresolvedReferences(unresolvedReferences);
+            if (!unresolvedReferences.isEmpty()) unresolved.put(name, unresolvedReferences);
+        });
+        if (!unresolved.isEmpty())
+            DynamicRegistries.LOGGER.error(RELOAD, "Found {} unresolved references across {} registries: {}", unresolved.values().stream().mapToInt(Set::size).sum(), unresolved.size(), unresolved);
+        report.time(ReloadReport.Phase.LINK, System.nanoTime() - start);
+        profiler.pop();
+        DynamicRegistries.LOGGER.debug(RELOAD, "Interned identifier pool holds {} identifiers with a hit rate of {}", ResourceLocationInterner.size(), ResourceLocationInterner.hitRate());
+
+        return () -> {
+            if (!this.isLatestReload(reload)) return;
+            final long publishStart = System.nanoTime();
+            reloading.values().forEach(DynamicRegistry::publishStaged);
+            report.time(ReloadReport.Phase.PUBLISH, System.nanoTime() - publishStart);
+            this.lastReloadReport = report;
+            DynamicRegistries.LOGGER.debug(RELOAD, "{}", report);
+        };
+    }
+
+    /**
+     * Prepares the registries of this manager to be replaced by previously encoded
+     * snapshots of them, such as those cached from an earlier reload with the same
+     * data, without publishing them. The missing entry strategies are still read
+     * from the data, as they are not part of a snapshot.
+     *
+     * @implSpec
+     * The snapshots are decoded on the calling thread in the same order registries
+     * are reloaded. If any registry being reloaded has no snapshot or its snapshot
+     * could not be decoded, the prepared data of every registry is discarded. Once
+     * published, the reload is reported through {@link #getLastReloadReport()} as
+     * {@link ReloadReport#isRestored() restored}.
+     *
+     * @param snapshots the encoded snapshots of the registries
+     * @param snapshotOps the operator used to transmute the encoded snapshots
+     * @param ids the identifiers of the encoded registry objects
+     * @param reader reads an encoded registry object from its identifier, returning
+     *               {@code null} if it could not be read
+     * @param ops the operator used to transmute the encoded object
+     * @param currentStage the current stage of the registry the data is promoted from
+     * @param <S> the type of the encoded snapshots
+     * @param <T> the type of the encoded object
+     * @return an action which publishes the prepared registries, or {@code null}
+     *         if the snapshots could not be used
+     *
+     * @see #prepareReload(Collection, Function, DynamicOps, DynamicRegistryManager, Executor)
+     */
+    @Nullable
+    public <S, T> Runnable prepareSnapshotReload(final Map<ResourceLocation, S> snapshots, final DynamicOps<S> snapshotOps, final Collection<ResourceLocation> ids,
+                                                 final Function<ResourceLocation, ? extends T> reader, final DynamicOps<T> ops, final DynamicRegistryManager currentStage) {
+        final int reload = this.beginReload();
+        final ReloadOps<S> reloadOps = new ReloadOps<>(snapshotOps);
+        final ReloadOps<T> strategyOps = reloadOps.withDelegate(ops);
+        final ReloadReport report = new ReloadReport(true);
+        long start = System.nanoTime();
+        final Map<ResourceLocation, Set<T>> missingEntryStrategies = this.readMissingEntryStrategies(ids, reader);
+        report.time(ReloadReport.Phase.ROUTING, System.nanoTime() - start);
+
+        start = System.nanoTime();
+        final Map<ResourceLocation, DynamicRegistry<?, ?>> reloading = new TreeMap<>();
+        new TreeSet<>(currentStage.registries.keySet()).forEach(name -> {
             DynamicRegistry<?, ?> registry = this.promoteFromStage(name, currentStage);
-            if (registry != null) {
-                Set<ResourceLocation> oldEntries = registry.setAndUnlockFromStage(currentStage);
-                registry.registerAll(registryEntries.getOrDefault(registry.getName(), Collections.emptyMap()), ops);
-                registry.postReloadedEntries(oldEntries, missingEntryStrategies.get(name), ops);
-                registry.lock();
-            } else DynamicRegistries.LOGGER.error(IRegistrableDynamicRegistry.REGISTER, "Registry promotion for {} has returned null, skipping", name);
+            if (registry != null) reloading.put(name, registry);
+        });
+        report.time(ReloadReport.Phase.PROMOTION, System.nanoTime() - start);
+        reloading.values().forEach(DynamicRegistry::startLinking);
+
+        start = System.nanoTime();
+        for (List<ResourceLocation> wave : this.reloadWaves(reloading)) {
+            for (ResourceLocation name : wave) {
+                final DynamicRegistry<?, ?> registry = reloading.get(name);
+                final ReloadReport.RegistryReport registryReport = report.registry(name);
+                @Nullable final S snapshot = snapshots.get(name);
+                long phaseStart = System.nanoTime();
+                if (snapshot == null || !registry.stageSnapshot(snapshot, reloadOps)) {
+                    DynamicRegistries.LOGGER.debug(RELOAD, snapshot == null ? "No snapshot of {} is present, discarding all snapshots"
+                            : "The snapshot of {} could not be decoded, discarding all snapshots", name);
+                    reloading.values().forEach(DynamicRegistry::discardStaged);
+                    return null;
+                }
+                registryReport.time(ReloadReport.Phase.DECODE, System.nanoTime() - phaseStart);
+
+                phaseStart = System.nanoTime();
+                registry.setEntryStrategies(missingEntryStrategies.getOrDefault(name, Collections.emptySet()), strategyOps);
+                registryReport.time(ReloadReport.Phase.MISSING_ENTRIES, System.nanoTime() - phaseStart);
+            }
+            for (ResourceLocation name : wave) {
+                final long lockStart = System.nanoTime();
+                reloadOps.stage(reloading.get(name));
+                report.registry(name).time(ReloadReport.Phase.LOCK, System.nanoTime() - lockStart);
+            }
+        }
+        report.time(ReloadReport.Phase.WAVES, System.nanoTime() - start);
+
+        start = System.nanoTime();
+        reloading.forEach((name, registry) -> {
+            final Set<ResourceLocation> unresolvedReferences = registry.link();
+            report.registry(name).unresolvedReferences(unresolvedReferences);
+            if (!unresolvedReferences.isEmpty())
+                DynamicRegistries.LOGGER.error(RELOAD, "Found {} unresolved references within {}: {}", unresolvedReferences.size(), name, unresolvedReferences);
+        });
+        report.time(ReloadReport.Phase.LINK, System.nanoTime() - start);
+
+        return () -> {
+            if (!this.isLatestReload(reload)) return;
+            final long publishStart = System.nanoTime();
+            reloading.values().forEach(DynamicRegistry::publishStaged);
+            report.time(ReloadReport.Phase.PUBLISH, System.nanoTime() - publishStart);
+            this.lastReloadReport = report;
+            DynamicRegistries.LOGGER.debug(RELOAD, "{}", report);
+        };
+    }
+
+    /**
+     * Starts preparing a new reload. Any data staged by an earlier reload which
+     * was never published, such as when the rest of the server reload failed,
+     * is discarded first.
+     *
+     * @return the number of the reload being prepared
+     */
+    private int beginReload() {
+        this.registries.values().forEach(DynamicRegistry::discardStaged);
+        return ++this.preparedReloads;
+    }
+
+    /**
+     * Loads the deferred saved data of every registry within this manager on
+     * the calling thread. Registries are loaded after the registries they
+     * depend on, such that saved registry objects referencing each other resolve.
+     *
+     * @throws RuntimeException if the saved data of a registry could not be loaded,
+     *                          in which case no further registries are loaded
+     *
+     * @see DynamicRegistry#deferLoad(Runnable)
+     */
+    public void loadPending() {
+        this.reloadWaves(new TreeMap<>(this.registries)).forEach(wave -> wave.forEach(name -> this.registries.get(name).loadPending()));
+    }
+
+    /**
+     * Checks whether a prepared reload is still the latest one, such that
+     * publishing it will not overwrite the registries with stale data.
+     *
+     * @param reload the number of the prepared reload
+     * @return {@code true} if no reload has been prepared since, otherwise {@code false}
+     */
+    private boolean isLatestReload(final int reload) {
+        if (reload == this.preparedReloads) return true;
+        DynamicRegistries.LOGGER.debug(RELOAD, "Skipped publishing reload {} as reload {} has been prepared since", reload, this.preparedReloads);
+        return false;
+    }
+
+    /**
+     * Reads the encoded missing entry strategies from the data, grouping them by
+     * the registry they apply to. The strategies of a registry are kept in the
+     * order they were read.
+     *
+     * @param ids the identifiers of the encoded data
+     * @param reader reads the encoded data from its identifier, returning {@code null}
+     *               if it could not be read
+     * @param <T> the type of the encoded object
+     * @return the encoded missing entry strategies of each registry
+     */
+    private <T> Map<ResourceLocation, Set<T>> readMissingEntryStrategies(final Collection<ResourceLocation> ids, final Function<ResourceLocation, ? extends T> reader) {
+        final Map<ResourceLocation, Set<T>> missingEntryStrategies = new HashMap<>();
+        ids.forEach(id -> {
+            String[] paths = id.getPath().split("/", 3);
+            if (paths[0].equals(MISSING_MAPPINGS)) {
+                @Nullable final T encodedEntry = reader.apply(id);
+                if (encodedEntry != null) missingEntryStrategies.computeIfAbsent(this.updateLegacyName(ResourceLocationInterner.intern(paths[1], paths[2])), u -> new LinkedHashSet<>()).add(encodedEntry);
+            }
         });
+        return missingEntryStrategies;
+    }
+
+    /**
+     * Returns the report of the last reload published by this manager.
+     *
+     * @return the report of the last reload, or {@code null} if no reload has been published
+     */
+    @Nullable
+    public ReloadReport getLastReloadReport() {
+        return this.lastReloadReport;
+    }
+
+    /**
+     * Splits the registries into waves that can each be reloaded in parallel.
+     * A registry is placed within the first wave after all registries it depends
+     * on. If the remaining registries depend on each other in a cycle, they are
+     * reported and placed within a single final wave.
+     *
+     * @param registries the registries being reloaded sorted by name
+     * @return the names of the registries within each wave sorted by name
+     */
+    private List<List<ResourceLocation>> reloadWaves(final Map<ResourceLocation, DynamicRegistry<?, ?>> registries) {
+        final Map<ResourceLocation, Set<ResourceLocation>> dependencies = new HashMap<>();
+        registries.forEach((name, registry) -> dependencies.put(name, registry.getDependencies().stream()
+                .map(this::updateLegacyName)
+                .filter(dependency -> !dependency.equals(name) && registries.containsKey(dependency))
+                .collect(Collectors.toSet())));
+
+        final List<List<ResourceLocation>> waves = new ArrayList<>();
+        final Set<ResourceLocation> remaining = new LinkedHashSet<>(registries.keySet());
+        while (!remaining.isEmpty()) {
+            List<ResourceLocation> wave = remaining.stream()
+                    .filter(name -> Collections.disjoint(dependencies.get(name), remaining))
+                    .collect(Collectors.toList());
+            if (wave.isEmpty()) {
+                DynamicRegistries.LOGGER.error(RELOAD, "Found a dependency cycle between {}, reloading them together", remaining);
+                wave = new ArrayList<>(remaining);
+            }
+            remaining.removeAll(wave);
+            waves.add(wave);
+        }
+        return waves;
     }
 
     /**
@@ -265,6 +688,41 @@ public class DynamicRegistryManager {
             throw new IllegalArgumentException("Legacy name is already to the existing registry " + this.legacyNames.get(legacyName) + ": " + legacyName + " -> " + currentName);
     }
 
+    /**
+     * Marks that a registry within this manager has published new contents,
+     * whether from a reload or a modification made at runtime.
+     */
+    public void markModified() {
+        this.modified.set(true);
+    }
+
+    /**
+     * Checks whether a registry within this manager has been published since
+     * the last call, clearing the mark.
+     *
+     * @return {@code true} if a registry has been published since the last call, otherwise {@code false}
+     *
+     * @see #markModified()
+     */
+    public boolean pollModified() {
+        return this.modified.getAndSet(false);
+    }
+
+    /**
+     * Checks whether none of the registries within this manager hold any data,
+     * including saved data which has been deferred and not loaded yet.
+     *
+     * @return {@code true} if every registry is empty, otherwise {@code false}
+     */
+    public boolean isEmpty() {
+        for (DynamicRegistry<?, ?> registry : this.registries.values()) {
+            if (registry.isLoadPending()) return false;
+            final DynamicRegistryView<?> view = registry.getView();
+            if (!view.isEmpty() || !view.aliases().isEmpty() || !view.dummies().isEmpty()) return false;
+        }
+        return true;
+    }
+
     /**
      * Returns a stream of entries containing the wanted registries.
      *
@@ -292,7 +750,7 @@ public class DynamicRegistryManager {
     public void sendToClient() {
         DynamicRegistries.instance().getChannel().send(PacketDistributor.ALL.noArg(),
                 new DynamicRegistryPacket(this.getName(), this.registries(Lookup.SYNC)
-                        .map(entry -> Pair.of(entry.getKey(), (CompoundNBT) entry.getValue().toSnapshot(NBTDynamicOps.INSTANCE)))
+                        .map(entry -> Pair.of(entry.getKey(), entry.getValue().toBinarySnapshot()))
                         .filter(pair -> Objects.nonNull(pair.getSecond()))
                         .collect(Collectors.toMap(Pair::getFirst, Pair::getSecond))
                 )
@@ -0,0 +1,383 @@
+/*
+ * Dynamic Registries
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.dynamicregistries;
+
+import net.minecraft.util.ResourceLocation;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A summary of a single reload of the dynamic registries. Holds the time
+ * spent within each phase of the reload, both overall and for each registry,
+ * alongside the number of entries each registry read, decoded, reused,
+ * and failed to register. A reload restored from previously encoded snapshots
+ * of the registries, such as those within the warm start cache, is reported the
+ * same way, though its registries report no entries read or decoded.
+ *
+ * @implNote
+ * A report is filled in while the reload is running. Each registry report is
+ * only written to by the thread reloading that registry and is only read once
+ * the reload has finished.
+ */
+public final class ReloadReport {
+
+    /**
+     * The time spent within each overall phase of the reload in nanoseconds.
+     */
+    private final Map<Phase, Long> times;
+    /**
+     * The reports of each reloaded registry sorted by name.
+     */
+    private final Map<ResourceLocation, RegistryReport> registries;
+    /**
+     * When {@code true}, the registries were restored from their snapshots
+     * rather than decoded from their data.
+     */
+    private final boolean restored;
+
+    /**
+     * Constructs an empty report.
+     *
+     * @param restored if the registries are restored from their snapshots
+     */
+    ReloadReport(final boolean restored) {
+        this.times = new EnumMap<>(Phase.class);
+        this.registries = new TreeMap<>();
+        this.restored = restored;
+    }
+
+    /**
+     * Records the time spent within an overall phase of the reload.
+     *
+     * @param phase the phase of the reload
+     * @param nanos the time spent within the phase in nanoseconds
+     */
+    void time(final Phase phase, final long nanos) {
+        this.times.merge(phase, nanos, Long::sum);
+    }
+
+    /**
+     * Creates the report of a registry being reloaded.
+     *
+     * @param name the name of the registry
+     * @return the report of the registry
+     */
+    RegistryReport registry(final ResourceLocation name) {
+        return this.registries.computeIfAbsent(name, RegistryReport::new);
+    }
+
+    /**
+     * Returns the time spent within an overall phase of the reload in nanoseconds.
+     * For a phase performed by each registry, this is the sum across all registries.
+     *
+     * @param phase the phase of the reload
+     * @return the time spent within the phase in nanoseconds
+     */
+    public long getTime(final Phase phase) {
+        if (!phase.perRegistry) return this.times.getOrDefault(phase, 0L);
+        long nanos = 0L;
+        for (RegistryReport registry : this.registries.values()) nanos += registry.getTime(phase);
+        return nanos;
+    }
+
+    /**
+     * Returns the wall time spent reloading in nanoseconds.
+     *
+     * @return the wall time spent reloading in nanoseconds
+     */
+    public long getTotalTime() {
+        long nanos = 0L;
+        for (long time : this.times.values()) nanos += time;
+        return nanos;
+    }
+
+    /**
+     * Returns the reports of each reloaded registry sorted by name.
+     *
+     * @return the reports of each reloaded registry
+     */
+    public Map<ResourceLocation, RegistryReport> getRegistries() {
+        return Collections.unmodifiableMap(this.registries);
+    }
+
+    /**
+     * Returns whether the registries were restored from previously encoded
+     * snapshots rather than decoded from their data.
+     *
+     * @return {@code true} if the registries were restored from their snapshots, otherwise {@code false}
+     */
+    public boolean isRestored() {
+        return this.restored;
+    }
+
+    /**
+     * Returns the total number of entries that failed to register across all registries.
+     *
+     * @return the total number of entries that failed to register
+     */
+    public int getFailures() {
+        int failures = 0;
+        for (RegistryReport registry : this.registries.values()) failures += registry.getFailures();
+        return failures;
+    }
+
+    /**
+     * Returns a single line summary of the reload.
+     *
+     * @return a single line summary of the reload
+     */
+    public String summary() {
+        if (this.restored)
+            return String.format("Restored %d registries from their snapshots in %.2f ms", this.registries.size(), millis(this.getTotalTime()));
+        int read = 0, decoded = 0, reused = 0;
+        for (RegistryReport registry : this.registries.values()) {
+            read += registry.getRead();
+            decoded += registry.getDecoded();
+            reused += registry.getReused();
+        }
+        return String.format("Reloaded %d registries in %.2f ms: %d entries read, %d decoded, %d reused, %d failed",
+                this.registries.size(), millis(this.getTotalTime()), read, decoded, reused, this.getFailures());
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder(this.summary());
+        for (Phase phase : Phase.values())
+            builder.append(String.format("%n  %-20s %10.2f ms", phase.getName(), millis(this.getTime(phase))));
+        this.registries.values().forEach(registry -> builder.append(System.lineSeparator()).append("  ").append(registry));
+        return builder.toString();
+    }
+
+    /**
+     * Converts nanoseconds into milliseconds.
+     *
+     * @param nanos the time in nanoseconds
+     * @return the time in milliseconds
+     */
+    private static double millis(final long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * The report of a single registry within a reload.
+     */
+    public static final class RegistryReport {
+
+        /**
+         * The name of the registry.
+         */
+        private final ResourceLocation name;
+        /**
+         * The time spent within each phase of the reload in nanoseconds.
+         */
+        private final Map<Phase, Long> times;
+        /**
+         * The number of entries read, decoded, reused, and failed respectively.
+         */
+        private int read, decoded, reused, failures;
+        /**
+         * The keys of references to registry objects within the registry which
+         * could not be linked.
+         */
+        private Set<ResourceLocation> unresolvedReferences = Collections.emptySet();
+
+        /**
+         * Constructs an empty registry report.
+         *
+         * @param name the name of the registry
+         */
+        private RegistryReport(final ResourceLocation name) {
+            this.name = name;
+            this.times = new EnumMap<>(Phase.class);
+        }
+
+        /**
+         * Records the time spent within a phase of the reload.
+         *
+         * @param phase the phase of the reload
+         * @param nanos the time spent within the phase in nanoseconds
+         */
+        void time(final Phase phase, final long nanos) {
+            this.times.merge(phase, nanos, Long::sum);
+        }
+
+        /**
+         * Records the number of entries handled while decoding.
+         *
+         * @param read the number of entries read
+         * @param decoded the number of entries decoded
+         * @param reused the number of entries reused from the previous reload
+         * @param failures the number of entries which could not be read or decoded
+         */
+        public void entries(final int read, final int decoded, final int reused, final int failures) {
+            this.read = read;
+            this.decoded = decoded;
+            this.reused = reused;
+            this.failures = failures;
+        }
+
+        /**
+         * Records the keys of references to registry objects within the registry
+         * which could not be linked.
+         *
+         * @param unresolvedReferences the keys of the unresolved references
+         */
+        void unresolvedReferences(final Set<ResourceLocation> unresolvedReferences) {
+            this.unresolvedReferences = Collections.unmodifiableSet(unresolvedReferences);
+        }
+
+        /**
+         * Returns the name of the registry.
+         *
+         * @return the name of the registry
+         */
+        public ResourceLocation getName() {
+            return this.name;
+        }
+
+        /**
+         * Returns the time spent within a phase of the reload in nanoseconds.
+         *
+         * @param phase the phase of the reload
+         * @return the time spent within the phase in nanoseconds
+         */
+        public long getTime(final Phase phase) {
+            return this.times.getOrDefault(phase, 0L);
+        }
+
+        /**
+         * Returns the number of entries read.
+         *
+         * @return the number of entries read
+         */
+        public int getRead() {
+            return this.read;
+        }
+
+        /**
+         * Returns the number of entries decoded.
+         *
+         * @return the number of entries decoded
+         */
+        public int getDecoded() {
+            return this.decoded;
+        }
+
+        /**
+         * Returns the number of entries reused from the previous reload.
+         *
+         * @return the number of entries reused from the previous reload
+         */
+        public int getReused() {
+            return this.reused;
+        }
+
+        /**
+         * Returns the number of entries which could not be read or decoded.
+         *
+         * @return the number of entries which could not be read or decoded
+         */
+        public int getFailures() {
+            return this.failures;
+        }
+
+        /**
+         * Returns the keys of references to registry objects within the registry
+         * which could not be linked.
+         *
+         * @return the keys of the unresolved references
+         */
+        public Set<ResourceLocation> getUnresolvedReferences() {
+            return this.unresolvedReferences;
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder builder = new StringBuilder(String.format("%s: %d read, %d decoded, %d reused, %d failed, %d unresolved", this.name, this.read, this.decoded, this.reused, this.failures, this.unresolvedReferences.size()));
+            for (Phase phase : Phase.values())
+                if (phase.perRegistry) builder.append(String.format(", %s %.2f ms", phase.getName(), millis(this.getTime(phase))));
+            return builder.toString();
+        }
+    }
+
+    /**
+     * The phases of a reload.
+     */
+    public enum Phase {
+        /**
+         * Splitting the data between the registries.
+         */
+        ROUTING("routing", false),
+        /**
+         * Promoting the registries from the previous stage.
+         */
+        PROMOTION("promotion", false),
+        /**
+         * Resetting each registry to the data from the previous stage.
+         */
+        SET_FROM_STAGE("set_from_stage", true),
+        /**
+         * Reading and decoding the entries of each registry, or decoding the
+         * snapshot of each registry when restored.
+         */
+        DECODE("decode", true),
+        /**
+         * Handling the entries missing from each registry.
+         */
+        MISSING_ENTRIES("missing_entries", true),
+        /**
+         * Locking each registry and building its view.
+         */
+        LOCK("lock", true),
+        /**
+         * Reloading the registries in dependency waves, including the phases
+         * performed by each registry.
+         */
+        WAVES("waves", false),
+        /**
+         * Linking the references decoded within every registry.
+         */
+        LINK("link", false),
+        /**
+         * Publishing the reloaded registries.
+         */
+        PUBLISH("publish", false);
+
+        /**
+         * The name of the phase, also used as the profiler section.
+         */
+        private final String name;
+        /**
+         * When {@code true}, the phase is performed by each registry.
+         */
+        private final boolean perRegistry;
+
+        /**
+         * Constructs a phase.
+         *
+         * @param name the name of the phase
+         * @param perRegistry if the phase is performed by each registry
+         */
+        Phase(final String name, final boolean perRegistry) {
+            this.name = name;
+            this.perRegistry = perRegistry;
+        }
+
+        /**
+         * Returns the name of the phase, also used as the profiler section.
+         *
+         * @return the name of the phase
+         */
+        public String getName() {
+            return this.name;
+        }
+    }
+}
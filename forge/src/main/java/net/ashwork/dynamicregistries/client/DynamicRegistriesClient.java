@@ -10,8 +10,7 @@
 package net.ashwork.dynamicregistries.client;
 
 import net.ashwork.dynamicregistries.DynamicRegistryManager;
-import net.minecraft.nbt.CompoundNBT;
-import net.minecraft.nbt.NBTDynamicOps;
+import net.ashwork.dynamicregistries.util.ResourceLocationInterner;
 import net.minecraft.util.ResourceLocation;
 import net.minecraftforge.client.event.ClientPlayerNetworkEvent;
 import net.minecraftforge.eventbus.api.IEventBus;
@@ -56,7 +55,7 @@ public final class DynamicRegistriesClient {
      * @param stage the stage to set the data within
      * @param snapshots a map of registry name to registry snapshot data
      */
-    public void handleClientRegistry(final String stage, final Map<ResourceLocation, CompoundNBT> snapshots) {
+    public void handleClientRegistry(final String stage, final Map<ResourceLocation, byte[]> snapshots) {
         DynamicRegistryManager stageManager;
         switch (stage) {
             case "Static":
@@ -68,7 +67,7 @@ public final class DynamicRegistriesClient {
             default:
                 throw new IllegalArgumentException("Invalid registry manager stage: " + stage);
         }
-        snapshots.forEach((name, snapshot) -> stageManager.getRegistry(name).fromSnapshot(snapshot, NBTDynamicOps.INSTANCE, false));
+        snapshots.forEach((name, snapshot) -> stageManager.getRegistry(name).fromBinarySnapshot(snapshot, false));
     }
 
     /**
@@ -78,6 +77,10 @@ public final class DynamicRegistriesClient {
      * @param event the event instance
      */
     private void playerLeave(final ClientPlayerNetworkEvent.LoggedOutEvent event) {
-        DynamicRegistryManager.DYNAMIC.registries(DynamicRegistryManager.Lookup.ALL).forEach(entry -> entry.getValue().clear());
+        try {
+            DynamicRegistryManager.DYNAMIC.registries(DynamicRegistryManager.Lookup.ALL).forEach(entry -> entry.getValue().reset());
+        } finally {
+            ResourceLocationInterner.clear();
+        }
     }
 }
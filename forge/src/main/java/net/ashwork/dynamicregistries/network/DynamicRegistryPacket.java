@@ -10,10 +10,8 @@
 package net.ashwork.dynamicregistries.network;
 
 import com.google.common.collect.ImmutableMap;
-import net.ashwork.dynamicregistries.DynamicRegistries;
 import net.ashwork.dynamicregistries.client.DynamicRegistriesClient;
-import net.ashwork.dynamicregistries.registry.ISnapshotDynamicRegistry;
-import net.minecraft.nbt.CompoundNBT;
+import net.ashwork.dynamicregistries.util.ResourceLocationInterner;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.Util;
@@ -21,7 +19,6 @@ import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.fml.DistExecutor;
 import net.minecraftforge.fml.network.NetworkEvent;
 
-import javax.annotation.Nullable;
 import java.util.Map;
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
@@ -37,17 +34,17 @@ public class DynamicRegistryPacket {
      */
     private final String stage;
     /**
-     * A map of registry names to their encoded registries
+     * A map of registry names to their binary snapshots
      */
-    private final Map<ResourceLocation, CompoundNBT> snapshots;
+    private final Map<ResourceLocation, byte[]> snapshots;
 
     /**
      * Constructs the packet on the server.
      *
      * @param stage the registry stage
-     * @param snapshots a map of registry names to their encoded registries
+     * @param snapshots a map of registry names to their binary snapshots
      */
-    public DynamicRegistryPacket(final String stage, final Map<ResourceLocation, CompoundNBT> snapshots) {
+    public DynamicRegistryPacket(final String stage, final Map<ResourceLocation, byte[]> snapshots) {
         this.stage = stage;
         this.snapshots = snapshots;
     }
@@ -60,13 +57,8 @@ public class DynamicRegistryPacket {
     public DynamicRegistryPacket(final PacketBuffer buffer) {
         this(buffer.readUtf(), Util.make(() -> {
             final int size = buffer.readInt();
-            final ImmutableMap.Builder<ResourceLocation, CompoundNBT> snapshots = ImmutableMap.builder();
-            IntStream.range(0, size).forEach(u -> {
-                final ResourceLocation name = buffer.readResourceLocation();
-                @Nullable CompoundNBT tag = buffer.readAnySizeNbt();
-                if (tag != null) snapshots.put(name, tag);
-                else DynamicRegistries.LOGGER.error(ISnapshotDynamicRegistry.SNAPSHOT, "Registry snapshot {} returned null, skipping", name);
-            });
+            final ImmutableMap.Builder<ResourceLocation, byte[]> snapshots = ImmutableMap.builder();
+            IntStream.range(0, size).forEach(u -> snapshots.put(ResourceLocationInterner.intern(buffer.readResourceLocation()), buffer.readByteArray()));
             return snapshots.build();
         }));
     }
@@ -81,7 +73,7 @@ public class DynamicRegistryPacket {
         buffer.writeInt(this.snapshots.size());
         this.snapshots.forEach((name, snapshot) -> {
             buffer.writeResourceLocation(name);
-            buffer.writeNbt(snapshot);
+            buffer.writeByteArray(snapshot);
         });
     }
 
@@ -0,0 +1,285 @@
+/*
+ * Dynamic Registries
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.dynamicregistries.registry;
+
+import com.google.common.base.Preconditions;
+import net.ashwork.dynamicregistries.entry.IDynamicEntry;
+
+import java.util.*;
+
+/**
+ * A set of registry objects within a {@link DynamicRegistry}, such as a tag.
+ * Membership is stored as a {@link BitSet} over the integer identifiers of
+ * the registry, so checking membership never needs to hash a registry object
+ * and unions or intersections between sets of the same registry are computed
+ * a word at a time.
+ *
+ * @implNote
+ * As integer identifiers are stable across reloads, the set follows the
+ * registry objects of the same key whenever the registry is reloaded. The
+ * set is validated against the registry every time the {@link IDynamicRegistry#getGeneration()
+ * generation} changes, dropping any integer identifier that has been removed
+ * or assigned to a different key since. A key that is removed and later added
+ * back is not restored to the set. Like most sets, this set is not safe to use
+ * across threads without external synchronization.
+ *
+ * @param <V> the super type of the dynamic registry entry
+ */
+public final class DynamicEntrySet<V extends IDynamicEntry<V>> extends AbstractSet<V> {
+
+    /**
+     * The registry the set is backed by.
+     */
+    private final DynamicRegistry<V, ?> registry;
+    /**
+     * The integer identifiers of the registry objects within the set.
+     */
+    private final BitSet ids;
+    /**
+     * The generation of the registry the set was last validated against.
+     */
+    private int generation;
+
+    /**
+     * Constructs an empty set.
+     *
+     * @param registry the registry the set is backed by
+     */
+    DynamicEntrySet(final DynamicRegistry<V, ?> registry) {
+        this(registry, new BitSet(), registry.getGeneration());
+    }
+
+    /**
+     * Constructs a set of registry objects within a view of the registry. The
+     * view may not have been published yet, such as one staged during a reload,
+     * in which case the set is only valid once the view is published.
+     *
+     * @param registry the registry the set is backed by
+     * @param view the view the registry objects are within
+     * @param values the registry objects within the set
+     * @throws IllegalArgumentException if a value is not a registry object within the view
+     */
+    DynamicEntrySet(final DynamicRegistry<V, ?> registry, final DynamicRegistryView<V> view, final Collection<? extends V> values) {
+        this(registry, new BitSet(), view.getGeneration());
+        for (V value : values) {
+            final int id = view.getId(value);
+            Preconditions.checkArgument(id != -1, "Not a valid registry object within %s: %s", registry.getName(), value.getRegistryName());
+            this.ids.set(id);
+        }
+    }
+
+    /**
+     * Constructs a set.
+     *
+     * @param registry the registry the set is backed by
+     * @param ids the integer identifiers of the registry objects within the set
+     * @param generation the generation of the registry the set is valid within
+     */
+    private DynamicEntrySet(final DynamicRegistry<V, ?> registry, final BitSet ids, final int generation) {
+        this.registry = registry;
+        this.ids = ids;
+        this.generation = generation;
+    }
+
+    /**
+     * Returns the registry the set is backed by.
+     *
+     * @return the registry the set is backed by
+     */
+    public DynamicRegistry<V, ?> getRegistry() {
+        return this.registry;
+    }
+
+    /**
+     * Returns a new set containing the registry objects within either this
+     * set or {@code other}.
+     *
+     * @param other a set of the same registry
+     * @return the union of the two sets
+     * @throws IllegalArgumentException if {@code other} is backed by a different registry
+     */
+    public DynamicEntrySet<V> union(final DynamicEntrySet<V> other) {
+        final DynamicEntrySet<V> union = this.copy();
+        union.addAll(other);
+        return union;
+    }
+
+    /**
+     * Returns a new set containing the registry objects within both this
+     * set and {@code other}.
+     *
+     * @param other a set of the same registry
+     * @return the intersection of the two sets
+     * @throws IllegalArgumentException if {@code other} is backed by a different registry
+     */
+    public DynamicEntrySet<V> intersection(final DynamicEntrySet<V> other) {
+        final DynamicEntrySet<V> intersection = this.copy();
+        intersection.retainAll(other);
+        return intersection;
+    }
+
+    /**
+     * Returns a copy of this set.
+     *
+     * @return a copy of this set
+     */
+    public DynamicEntrySet<V> copy() {
+        this.validate();
+        return new DynamicEntrySet<>(this.registry, (BitSet) this.ids.clone(), this.generation);
+    }
+
+    @Override
+    public boolean contains(final Object obj) {
+        if (!(obj instanceof IDynamicEntry)) return false;
+        @SuppressWarnings("unchecked") // Only registry objects are looked up within the registry
+        final int id = this.validate().getId((V) obj);
+        return id != -1 && this.ids.get(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if {@code value} is not a registry
+     *                                  object within the backing registry
+     */
+    @Override
+    public boolean add(final V value) {
+        final int id = this.validate().getId(value);
+        Preconditions.checkArgument(id != -1, "Not a valid registry object within %s: %s", this.registry.getName(), value.getRegistryName());
+        if (this.ids.get(id)) return false;
+        this.ids.set(id);
+        return true;
+    }
+
+    @Override
+    public boolean remove(final Object obj) {
+        if (!(obj instanceof IDynamicEntry)) return false;
+        @SuppressWarnings("unchecked") // Only registry objects are looked up within the registry
+        final int id = this.validate().getId((V) obj);
+        if (id == -1 || !this.ids.get(id)) return false;
+        this.ids.clear(id);
+        return true;
+    }
+
+    @Override
+    public boolean containsAll(final Collection<?> c) {
+        if (!(c instanceof DynamicEntrySet)) return super.containsAll(c);
+        final BitSet other = this.sameRegistry(c);
+        other.andNot(this.ids);
+        return other.isEmpty();
+    }
+
+    @Override
+    public boolean addAll(final Collection<? extends V> c) {
+        if (!(c instanceof DynamicEntrySet)) return super.addAll(c);
+        final int size = this.ids.cardinality();
+        this.ids.or(this.sameRegistry(c));
+        return this.ids.cardinality() != size;
+    }
+
+    @Override
+    public boolean retainAll(final Collection<?> c) {
+        if (!(c instanceof DynamicEntrySet)) return super.retainAll(c);
+        final int size = this.ids.cardinality();
+        this.ids.and(this.sameRegistry(c));
+        return this.ids.cardinality() != size;
+    }
+
+    @Override
+    public boolean removeAll(final Collection<?> c) {
+        if (!(c instanceof DynamicEntrySet)) return super.removeAll(c);
+        final int size = this.ids.cardinality();
+        this.ids.andNot(this.sameRegistry(c));
+        return this.ids.cardinality() != size;
+    }
+
+    @Override
+    public void clear() {
+        this.ids.clear();
+    }
+
+    @Override
+    public Iterator<V> iterator() {
+        final DynamicRegistryView<V> view = this.validate();
+        return new Iterator<V>() {
+
+            /**
+             * The integer identifier of the next registry object.
+             */
+            private int next = DynamicEntrySet.this.ids.nextSetBit(0);
+            /**
+             * The integer identifier of the last returned registry object.
+             */
+            private int last = -1;
+
+            @Override
+            public boolean hasNext() {
+                return this.next >= 0;
+            }
+
+            @Override
+            public V next() {
+                if (this.next < 0) throw new NoSuchElementException();
+                this.last = this.next;
+                this.next = DynamicEntrySet.this.ids.nextSetBit(this.next + 1);
+                return view.byId(this.last);
+            }
+
+            @Override
+            public void remove() {
+                Preconditions.checkState(this.last != -1, "No registry object to remove");
+                DynamicEntrySet.this.ids.clear(this.last);
+                this.last = -1;
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        this.validate();
+        return this.ids.cardinality();
+    }
+
+    /**
+     * Validates both sets against their registry and returns a copy of the
+     * integer identifiers of the other set.
+     *
+     * @param c the other set
+     * @return a copy of the integer identifiers of the other set
+     * @throws IllegalArgumentException if the other set is backed by a different registry
+     */
+    private BitSet sameRegistry(final Collection<?> c) {
+        final DynamicEntrySet<?> other = (DynamicEntrySet<?>) c;
+        Preconditions.checkArgument(other.registry == this.registry, "Cannot combine sets of %s and %s", this.registry.getName(), other.registry.getName());
+        this.validate();
+        other.validate();
+        return (BitSet) other.ids.clone();
+    }
+
+    /**
+     * Validates the set against the currently published view of the registry,
+     * dropping any integer identifier that has been removed or reassigned since
+     * the set was last validated. A set built against a view that has not been
+     * published yet is left as is until it is.
+     *
+     * @return the currently published view of the registry
+     */
+    private DynamicRegistryView<V> validate() {
+        final DynamicRegistryView<V> view = this.registry.getView();
+        if (view.getGeneration() > this.generation) {
+            for (int id = this.ids.nextSetBit(0); id >= 0; id = this.ids.nextSetBit(id + 1)) {
+                final int idGeneration = view.getIdGeneration(id);
+                if (idGeneration == -1 || idGeneration > this.generation) this.ids.clear(id);
+            }
+            this.generation = view.getGeneration();
+        }
+        return view;
+    }
+}
@@ -11,17 +11,33 @@ package net.ashwork.dynamicregistries.registry;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.*;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.mojang.datafixers.util.Pair;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.DataResult;
 import com.mojang.serialization.DynamicOps;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 import net.ashwork.dynamicregistries.DynamicRegistries;
 import net.ashwork.dynamicregistries.DynamicRegistryData;
 import net.ashwork.dynamicregistries.DynamicRegistryListener;
 import net.ashwork.dynamicregistries.DynamicRegistryManager;
+import net.ashwork.dynamicregistries.ReloadReport;
 import net.ashwork.dynamicregistries.entry.ICodecEntry;
 import net.ashwork.dynamicregistries.entry.IDynamicEntry;
+import net.ashwork.dynamicregistries.util.ResourceLocationInterner;
+import net.minecraft.nbt.INBT;
+import net.minecraft.nbt.NBTDynamicOps;
+import net.minecraft.nbt.NBTSizeTracker;
+import net.minecraft.nbt.NBTTypes;
+import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.Util;
 import net.minecraftforge.registries.IForgeRegistry;
@@ -29,19 +45,53 @@ import org.apache.logging.log4j.Marker;
 import org.apache.logging.log4j.MarkerManager;
 
 import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
  * The base implementation of {@link IDynamicRegistry}. All registries will be
  * an implementation of this class.
  *
+ * @implNote
+ * All reads are served from the {@link DynamicRegistryView} published when the
+ * registry was last locked. Modifications made while the registry is unlocked
+ * are built separately and only become visible once the registry is locked
+ * again, so readers on other threads never observe a partially built registry.
+ *
  * @param <V> the super type of the dynamic registry entry
  * @param <C> the super type of the codec registry entry
  */
 public class DynamicRegistry<V extends IDynamicEntry<V>, C extends ICodecEntry<V, C>> implements ICodecRegistrableDynamicRegistry<V, C>, IModifiableDynamicRegistry<V, C>, ISnapshotDynamicRegistry<V, C>, IStageableDynamicRegistry<V, C> {
 
+    /**
+     * A marker that represents all logging information while resolving entry aliases.
+     */
+    private static final Marker ALIAS = MarkerManager.getMarker("Alias");
+    /**
+     * The four bytes at the start of every snapshot written by {@link #toBinarySnapshot()},
+     * distinguishing it from any other encoded form an operator can read as bytes.
+     */
+    private static final int BINARY_SNAPSHOT_MAGIC = 0x44524547;
+    /**
+     * The version of the binary snapshot format written by {@link #toBinarySnapshot()}.
+     */
+    private static final int BINARY_SNAPSHOT_VERSION = 3;
+    /**
+     * The hash of an entry read by a registry which does not reuse unchanged entries.
+     */
+    private static final HashCode UNHASHED = HashCode.fromInt(0);
+
     /**
      * The name of the registry.
      */
@@ -71,28 +121,87 @@ public class DynamicRegistry<V extends IDynamicEntry<V>, C extends ICodecEntry<V
      * The reload strategy of the registry.
      */
     private final ReloadStrategy reloadStrategy;
+    /**
+     * The storage mode of the registry.
+     */
+    private final StorageMode storageMode;
     /**
      * The registry entry codecs in their simple and exploded form.
      */
     private final Codec<V> registryEntryCodec, explodedEntryCodec;
     /**
-     * The snapshot codec for encoding/decoding the registry.
+     * The codec to encode/decode deferred references to registry entries.
+     */
+    private final Codec<DynamicRegistryObject<V>> referenceCodec;
+    /**
+     * The snapshot codecs for encoding/decoding the registry, for a reload
+     * and for saved data respectively.
+     */
+    private final Codec<ISnapshotDynamicRegistry<V, C>> snapshotCodec, savedDataSnapshotCodec;
+    /**
+     * The snapshot codec which stages the decoded data rather than publishing it.
      */
-    private final Function<Boolean, Codec<DynamicRegistry<V, C>>> snapshotCodec;
+    private final Codec<DynamicRegistry<V, C>> stagedSnapshotCodec;
 
     /**
-     * The entries within the registry.
+     * The entries within the registry being built. Empty while the registry
+     * is locked. Only a {@link BiMap} if the storage mode is {@link StorageMode#INDEXED}.
      */
-    protected final BiMap<ResourceLocation, V> entries;
+    protected Map<ResourceLocation, V> entries;
     /**
-     * The entry aliases within the registry.
+     * The entry aliases within the registry being built. Empty while the
+     * registry is locked.
      */
-    protected final Map<ResourceLocation, ResourceLocation> aliases;
+    protected Map<ResourceLocation, ResourceLocation> aliases;
     /**
-     * Registry names that are stored with no mapped values.
+     * Registry names that are stored with no mapped values within the registry
+     * being built. Empty while the registry is locked.
      */
-    protected final Set<ResourceLocation> dummies;
-
+    protected Set<ResourceLocation> dummies;
+    /**
+     * The currently published view of the registry which all reads are served from.
+     */
+    private volatile DynamicRegistryView<V> view;
+    /**
+     * A view built when the registry was locked that has not been published yet.
+     * Only registry objects decoded through a {@link ReloadOps} the view was
+     * staged with are resolved against it.
+     */
+    @Nullable
+    private volatile DynamicRegistryView<V> stagedView;
+    /**
+     * The integer identifiers of the registry objects within the last snapshot
+     * written to the registry, such that a registry synced from the server
+     * assigns the same identifiers as the server. Only present until the
+     * registry is next locked.
+     */
+    @Nullable
+    private Map<ResourceLocation, Integer> snapshotIds;
+    /**
+     * Loads the saved data of the registry once {@link #loadPending()} is called.
+     * Only present until the saved data has been loaded.
+     *
+     * @see #deferLoad(Runnable)
+     */
+    @Nullable
+    private volatile Runnable pendingLoad;
+    /**
+     * When {@code true}, the deferred saved data could not be loaded, so the
+     * registry no longer matches its saved data and must not overwrite it.
+     */
+    private volatile boolean loadFailed;
+    /**
+     * The number of views published for this registry. Only written by the
+     * thread publishing the views.
+     */
+    private volatile int modificationCount;
+    /**
+     * The references to registry objects within this registry decoded during
+     * the current reload which have not been linked yet. Only present while
+     * the registry is reloading.
+     */
+    @Nullable
+    private volatile Queue<DynamicRegistryObject<V>> pendingReferences;
     /**
      * Stores the missing entries associated with this registry.
      */
@@ -105,7 +214,24 @@ public class DynamicRegistry<V extends IDynamicEntry<V>, C extends ICodecEntry<V
     /**
      * When {@code true}, the registry cannot be modified.
      */
-    private boolean locked;
+    private volatile boolean locked;
+    /**
+     * The content hashes and decoded registry objects of the entries registered
+     * from their encoded form during the last reload.
+     */
+    private Map<ResourceLocation, DecodedEntry<V>> decodedEntries;
+    /**
+     * When {@code true}, the entries registered from their encoded form changed
+     * during the last reload.
+     */
+    private boolean changedOnReload;
+    /**
+     * The state of the registry which is not part of its view as of the last
+     * published view. Only present while changes to the registry have not been
+     * published.
+     */
+    @Nullable
+    private PublishedState<V> publishedState;
 
     /**
      * Constructs the new registry for the specified stage.
@@ -122,30 +248,25 @@ public class DynamicRegistry<V extends IDynamicEntry<V>, C extends ICodecEntry<V
         this.codecRegistry = builder.getCodecRegistry();
         this.defaultKey = builder.getDefaultKey();
         this.reloadStrategy = builder.getReloadStrategy();
-        this.registryEntryCodec = ResourceLocation.CODEC.comapFlatMap(id -> {
-            @Nullable
-            V val = this.getValue(id);
-            return val != null ? DataResult.success(val)
-                    : DataResult.error("Not a valid registry object within " + this.getName() + ": " + id);
-        }, IDynamicEntry::getRegistryName);
+        this.storageMode = builder.getStorageMode();
+        this.registryEntryCodec = ResourceLocation.CODEC.comapFlatMap(id -> this.resolve(this.publishedView(), id), IDynamicEntry::getRegistryName);
         this.explodedEntryCodec = ResourceLocation.CODEC.comapFlatMap(id -> {
             @Nullable C val = this.codecRegistry.getValue(id);
             return val != null ? DataResult.success(val)
                     : DataResult.error("Not a valid registry object within " + this.codecRegistry.getRegistryName() + ": " + id);
         }, ICodecEntry::getRegistryName).dispatch(dyn -> (C) dyn.codec(), ICodecEntry::entryCodec);
-        this.snapshotCodec = isSavedData -> RecordCodecBuilder.create(instance ->
-                instance.group(
-                        RecordCodecBuilder.point(this),
-                        Codec.unboundedMap(ResourceLocation.CODEC, this.explodedEntryCodec).fieldOf("entries").forGetter(reg -> reg.entries),
-                        Codec.unboundedMap(ResourceLocation.CODEC, ResourceLocation.CODEC).fieldOf("aliases").forGetter(reg -> reg.aliases),
-                        ResourceLocation.CODEC.listOf().xmap(list -> (Set<ResourceLocation>) ImmutableSet.copyOf(list), ImmutableList::copyOf).fieldOf("dummies").forGetter(reg -> reg.dummies),
-                        RecordCodecBuilder.point(isSavedData)
-                ).apply(instance, DynamicRegistry<V, C>::fromSnapshot)
-        );
-        this.entries = HashBiMap.create();
-        this.aliases = new HashMap<>();
-        this.dummies = new HashSet<>();
+        this.referenceCodec = ResourceLocationInterner.CODEC.xmap(this::createReference, DynamicRegistryObject::getName);
+        this.snapshotCodec = this.createSnapshotCodec(false, true).xmap(Function.identity(), DynamicRegistry.class::cast);
+        this.savedDataSnapshotCodec = this.createSnapshotCodec(true, true).xmap(Function.identity(), DynamicRegistry.class::cast);
+        this.stagedSnapshotCodec = this.createSnapshotCodec(false, false);
+        this.entries = ImmutableMap.of();
+        this.aliases = ImmutableMap.of();
+        this.dummies = ImmutableSet.of();
+        this.view = new DynamicRegistryView<>(this.storageMode);
         this.locked = true;
+        this.missingEntryManager = MissingEntryManager.EMPTY;
+        this.decodedEntries = ImmutableMap.of();
+        this.changedOnReload = true;
     }
 
     @Override
@@ -163,56 +284,312 @@ public class DynamicRegistry<V extends IDynamicEntry<V>, C extends ICodecEntry<V
         return this.codecRegistry.getRegistrySuperType();
     }
 
+    /**
+     * Returns the codec registry used to encode/decode the registry objects.
+     *
+     * @return the codec registry used to encode/decode the registry objects
+     */
+    public IForgeRegistry<C> getCodecRegistry() {
+        return this.codecRegistry;
+    }
+
+    /**
+     * Returns the names of the registries whose entries this registry references.
+     *
+     * @return the names of the registries this registry depends on
+     *
+     * @see DynamicRegistryBuilder#dependsOn(ResourceLocation)
+     */
+    public Set<ResourceLocation> getDependencies() {
+        return Collections.unmodifiableSet(this.builder.getDependencies());
+    }
+
+    @Override
+    public int getGeneration() {
+        return this.publishedView().getGeneration();
+    }
+
     @Override
     public boolean containsKey(ResourceLocation key){
-        while (key != null) {
-            if (this.entries.containsKey(key)) return true;
-            key = this.aliases.get(key);
-        }
-        return false;
+        return this.publishedView().containsKey(key);
     }
 
     @Override
     public boolean containsValue(V value) {
-        return this.entries.containsValue(value);
+        return this.publishedView().containsValue(value);
     }
 
     @Override
     public boolean isEmpty() {
-        return this.entries.isEmpty();
+        return this.publishedView().isEmpty();
     }
 
     @Nullable
     @Override
     public V getValue(ResourceLocation key) {
-        V ret;
-        do {
-            ret = this.entries.get(key);
-            key = this.aliases.get(key);
-        } while (ret == null && key != null);
-        return ret == null ? this.defaultValue : ret;
+        return this.publishedView().getValue(key);
     }
 
     @Nullable
     @Override
     public ResourceLocation getKey(V value) {
-        ResourceLocation ret = this.entries.inverse().get(value);
+        ResourceLocation ret = this.publishedView().getKey(value);
         return ret == null ? this.defaultKey : ret;
     }
 
+    @Override
+    public int getId(V value) {
+        return this.publishedView().getId(value);
+    }
+
+    @Nullable
+    @Override
+    public V byId(int id) {
+        return this.publishedView().byId(id);
+    }
+
     @Override
     public Set<ResourceLocation> keySet() {
-        return Collections.unmodifiableSet(this.entries.keySet());
+        return this.publishedView().keySet();
     }
 
     @Override
     public Set<V> values() {
-        return Collections.unmodifiableSet(this.entries.values());
+        return this.publishedView().values();
     }
 
     @Override
     public Set<Map.Entry<ResourceLocation, V>> entrySet() {
-        return Collections.unmodifiableSet(this.entries.entrySet());
+        return this.publishedView().entrySet();
+    }
+
+    @Override
+    public Map<ResourceLocation, V> getNamespaceEntries(String namespace) {
+        return this.publishedView().namespaceEntries(namespace);
+    }
+
+    @Override
+    public Map<ResourceLocation, V> getPathEntries(String namespace, String pathPrefix) {
+        return this.publishedView().pathEntries(namespace, pathPrefix);
+    }
+
+    @Override
+    public Map<ResourceLocation, V> getPathEntries(String pathPrefix) {
+        return this.publishedView().pathEntries(pathPrefix);
+    }
+
+    /**
+     * Creates an empty set of registry objects within this registry.
+     *
+     * @return an empty set of registry objects within this registry
+     *
+     * @see DynamicEntrySet
+     */
+    public DynamicEntrySet<V> createEntrySet() {
+        return new DynamicEntrySet<>(this);
+    }
+
+    /**
+     * Returns a codec which encodes/decodes a set of registry objects within
+     * this registry as a list of their identifiers.
+     *
+     * @return a codec for a set of registry objects within this registry
+     */
+    public Codec<DynamicEntrySet<V>> entrySetCodec() {
+        final Codec<List<V>> listCodec = this.listOf();
+        return new Codec<DynamicEntrySet<V>>() {
+            @Override
+            public <T> DataResult<Pair<DynamicEntrySet<V>, T>> decode(final DynamicOps<T> ops, final T input) {
+                // The set must hold the integer identifiers of the view its registry objects were decoded from
+                final DynamicRegistryView<V> view = DynamicRegistry.this.decodingView(ops);
+                return listCodec.decode(ops, input).map(pair -> Pair.of(new DynamicEntrySet<>(DynamicRegistry.this, view, pair.getFirst()), pair.getSecond()));
+            }
+
+            @Override
+            public <T> DataResult<T> encode(final DynamicEntrySet<V> input, final DynamicOps<T> ops, final T prefix) {
+                return listCodec.encode(ImmutableList.copyOf(input), ops, prefix);
+            }
+        };
+    }
+
+    /**
+     * Returns a codec which encodes/decodes a reference to a registry object within
+     * this registry by its identifier. Unlike the registry codec, the registry object
+     * is not looked up while decoding, so the result does not depend on the order
+     * registries are reloaded in. References decoded during a reload are linked once
+     * every registry has been decoded, reporting all references that could not be
+     * resolved together.
+     *
+     * @return a codec for a deferred reference to a registry object within this registry
+     */
+    public Codec<DynamicRegistryObject<V>> referenceCodec() {
+        return this.referenceCodec;
+    }
+
+    /**
+     * Creates a reference to a registry object within the {@link DynamicRegistryManager#DYNAMIC}
+     * stage of this registry, queuing it to be linked if the registry is reloading.
+     *
+     * @param key the identifier of the registry object
+     * @return a reference to the registry object
+     */
+    private DynamicRegistryObject<V> createReference(final ResourceLocation key) {
+        final DynamicRegistryObject<V> reference = DynamicRegistryObject.of(key, this.getName());
+        @Nullable final DynamicRegistry<V, C> registry = DynamicRegistryManager.DYNAMIC.getRegistry(this.getName());
+        @Nullable final Queue<DynamicRegistryObject<V>> pendingReferences = registry != null ? registry.pendingReferences : null;
+        if (pendingReferences != null) pendingReferences.add(reference);
+        return reference;
+    }
+
+    /**
+     * Starts collecting the references to registry objects within this registry
+     * which are decoded during a reload.
+     *
+     * @see #link()
+     */
+    public void startLinking() {
+        this.pendingReferences = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * Links all references to registry objects within this registry decoded since
+     * {@link #startLinking()} against the latest view of the registry.
+     *
+     * @return the keys of the references which could not be resolved
+     */
+    public Set<ResourceLocation> link() {
+        @Nullable final Queue<DynamicRegistryObject<V>> pendingReferences = this.pendingReferences;
+        this.pendingReferences = null;
+        if (pendingReferences == null) return ImmutableSet.of();
+
+        final DynamicRegistryView<V> view = this.latestView();
+        final Set<ResourceLocation> unresolved = new TreeSet<>();
+        for (DynamicRegistryObject<V> reference : pendingReferences) {
+            if (view.containsKey(reference.getName())) reference.bind(this, view);
+            else unresolved.add(reference.getName());
+        }
+        DynamicRegistries.LOGGER.debug(REGISTER, "Linked {} references within {}", pendingReferences.size() - unresolved.size(), this.getName());
+        return unresolved;
+    }
+
+    /**
+     * Returns the currently published view of the registry. The view will
+     * not change even if the registry is later modified.
+     *
+     * @return the currently published view of the registry
+     */
+    public DynamicRegistryView<V> getView() {
+        return this.publishedView();
+    }
+
+    /**
+     * Returns the currently published view of the registry.
+     *
+     * @return the currently published view of the registry
+     */
+    private DynamicRegistryView<V> publishedView() {
+        return this.view;
+    }
+
+    /**
+     * Defers loading the saved data of the registry until {@link #loadPending()}
+     * is called, such as by {@link DynamicRegistryManager#loadPending()} once the
+     * server has started. The {@code load} is expected to write the data to the
+     * registry and publish it.
+     *
+     * @param load the action loading the saved data, or {@code null} to discard
+     *             any deferred load
+     */
+    public void deferLoad(@Nullable final Runnable load) {
+        this.pendingLoad = load;
+        this.loadFailed = false;
+    }
+
+    /**
+     * Checks whether the saved data of the registry has been deferred and
+     * not loaded yet.
+     *
+     * @return {@code true} if the saved data has not been loaded yet, otherwise {@code false}
+     */
+    public boolean isLoadPending() {
+        return this.pendingLoad != null;
+    }
+
+    /**
+     * Checks whether the deferred saved data of the registry could not be loaded.
+     * The registry should then not be saved, as it would replace the saved data
+     * that failed to load.
+     *
+     * @return {@code true} if the saved data failed to load, otherwise {@code false}
+     */
+    public boolean isLoadFailed() {
+        return this.loadFailed;
+    }
+
+    /**
+     * Loads the deferred saved data of the registry if present. This should
+     * only be called on the server thread, as the data is written to the
+     * registry and published like any other modification.
+     *
+     * @throws RuntimeException if the saved data could not be loaded, such as when
+     *                          a missing entry strategy fails, after which the
+     *                          registry is marked as {@link #isLoadFailed() failed}
+     */
+    public void loadPending() {
+        @Nullable final Runnable load = this.pendingLoad;
+        if (load == null) return;
+        this.pendingLoad = null;
+        try {
+            load.run();
+        } catch (RuntimeException e) {
+            this.loadFailed = true;
+            DynamicRegistries.LOGGER.error(SNAPSHOT, "Could not load the saved data of {}, it will not be saved", this.getName(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the view staged to be published if present, otherwise the
+     * currently published view.
+     *
+     * @return the latest view of the registry
+     */
+    private DynamicRegistryView<V> latestView() {
+        @Nullable final DynamicRegistryView<V> stagedView = this.stagedView;
+        return stagedView != null ? stagedView : this.view;
+    }
+
+    /**
+     * Checks whether the registry being built has a registry object registered
+     * with the given {@code key}, walking any aliases.
+     *
+     * @param key the identifier of the registry object to be checked
+     * @return {@code true} if the registry being built contains a registry object
+     *         with the specified key, otherwise {@code false}
+     */
+    private boolean containsBuildingKey(ResourceLocation key) {
+        while (key != null) {
+            if (this.entries.containsKey(key)) return true;
+            key = this.aliases.get(key);
+        }
+        return false;
+    }
+
+    /**
+     * Gets the registry object associated with the {@code key} within the registry
+     * being built, walking any aliases.
+     *
+     * @param key the identifier of a registry object
+     * @return the associated registry object, the default value, or {@code null}
+     */
+    @Nullable
+    private V getBuildingValue(ResourceLocation key) {
+        V ret;
+        do {
+            ret = this.entries.get(key);
+            key = this.aliases.get(key);
+        } while (ret == null && key != null);
+        return ret == null ? this.defaultValue : ret;
     }
 
     @Override
@@ -221,17 +598,221 @@ public class DynamicRegistry<V extends IDynamicEntry<V>, C extends ICodecEntry<V
     }
 
     /**
-     * Unlocks the registry for modification.
+     * Unlocks the registry for modification. The registry being built starts
+     * from the data within the currently published view.
      */
     public void unlock() {
+        this.unlock(true);
+    }
+
+    /**
+     * Unlocks the registry for modification.
+     *
+     * @param copyView if the registry being built should start from the data within
+     *                 the latest view rather than being empty
+     */
+    private void unlock(final boolean copyView) {
+        if (!this.isLocked()) return;
+        // Changes are only shadowed from the published state, so staged changes do not replace it
+        if (this.publishedState == null)
+            this.publishedState = new PublishedState<>(this.missingEntryManager, this.defaultValue, this.decodedEntries, this.changedOnReload);
+        final DynamicRegistryView<V> view = this.latestView();
+        final Map<ResourceLocation, V> entries = copyView ? view.entries() : Collections.emptyMap();
+        this.entries = this.storageMode == StorageMode.INDEXED ? HashBiMap.create(entries) : new HashMap<>(entries);
+        this.aliases = new HashMap<>(copyView ? view.aliases() : Collections.emptyMap());
+        this.dummies = new HashSet<>(copyView ? view.dummies() : Collections.emptySet());
         this.locked = false;
     }
 
     /**
-     * Locks the registry so no modification can occur.
+     * Locks the registry so no modification can occur. A new view of the
+     * registry is built, assigning integer identifiers to the current entries
+     * and resolving all aliases, and then published for all readers. The
+     * registry being built is discarded in favor of the frozen view.
+     *
+     * @see #stageLock()
+     * @see #publishStaged()
      */
     public void lock() {
+        this.stageLock();
+        this.publishStaged();
+    }
+
+    /**
+     * Locks the registry so no modification can occur and builds a new view
+     * of the registry without publishing it. Readers continue to see the
+     * currently published view until {@link #publishStaged()} is called, which
+     * allows the view to be built away from the threads reading the registry.
+     */
+    public void stageLock() {
+        if (this.isLocked()) return;
+        final DynamicRegistryView<V> previousView = this.latestView();
+        final ResourceLocation[] keysById = this.assignIds(previousView);
+        this.snapshotIds = null;
+        final int generation = previousView.getGeneration() + 1;
+        final Object[] valuesById = new Object[keysById.length];
+        final int[] idGenerations = new int[keysById.length];
+        for (int id = 0; id < keysById.length; id++) {
+            if (keysById[id] == null) continue;
+            valuesById[id] = this.entries.get(keysById[id]);
+            idGenerations[id] = previousView.idOf(keysById[id]) == id ? previousView.getIdGeneration(id) : generation;
+        }
+        this.stagedView = new DynamicRegistryView<>(generation, this.storageMode, keysById, valuesById, idGenerations, this.resolveAliases(),
+                ImmutableMap.copyOf(this.aliases), ImmutableSet.copyOf(this.dummies), this.defaultValue);
+        this.entries = ImmutableMap.of();
+        this.aliases = ImmutableMap.of();
+        this.dummies = ImmutableSet.of();
+        this.locked = true;
+    }
+
+    /**
+     * Returns the view built by {@link #stageLock()} that has not been published yet.
+     *
+     * @return the staged view of the registry, or {@code null} if no view is staged
+     */
+    @Nullable
+    DynamicRegistryView<V> getStagedView() {
+        return this.stagedView;
+    }
+
+    /**
+     * Publishes the view built by {@link #stageLock()} for all readers. Does
+     * nothing if no view is staged.
+     */
+    public void publishStaged() {
+        @Nullable final DynamicRegistryView<V> stagedView = this.stagedView;
+        if (stagedView == null) return;
+        this.view = stagedView;
+        this.stagedView = null;
+        this.publishedState = null;
+        this.modificationCount++;
+        this.stage.markModified();
+    }
+
+    /**
+     * Returns the number of times the contents of the registry have been
+     * published. Two equal counts mean the registry has not changed in between.
+     *
+     * @return the number of times the contents of the registry have been published
+     */
+    public int getModificationCount() {
+        return this.modificationCount;
+    }
+
+    /**
+     * Locks the registry and discards any changes that have not been published,
+     * such that the registry continues from the currently published view and
+     * the state it was published with.
+     */
+    public void discardStaged() {
+        this.entries = ImmutableMap.of();
+        this.aliases = ImmutableMap.of();
+        this.dummies = ImmutableSet.of();
         this.locked = true;
+        this.stagedView = null;
+        this.pendingReferences = null;
+        this.snapshotIds = null;
+        @Nullable final PublishedState<V> publishedState = this.publishedState;
+        if (publishedState == null) return;
+        this.missingEntryManager = publishedState.missingEntryManager;
+        this.defaultValue = publishedState.defaultValue;
+        this.decodedEntries = publishedState.decodedEntries;
+        this.changedOnReload = publishedState.changedOnReload;
+        this.publishedState = null;
+    }
+
+    /**
+     * Flattens every alias to the identifier at the end of its chain such
+     * that a lookup never needs to walk the aliases.
+     *
+     * @return the aliases mapped to the identifier of the registry object they resolve to
+     *
+     * @see #resolveAliases(ResourceLocation, Map, Set, Consumer)
+     */
+    private Map<ResourceLocation, ResourceLocation> resolveAliases() {
+        return resolveAliases(this.getName(), this.aliases, this.entries.keySet(), cycle ->
+                DynamicRegistries.LOGGER.error(ALIAS, "Found an alias cycle within {}, dropping: {}", this.getName(), cycle));
+    }
+
+    /**
+     * Flattens every alias to the identifier at the end of its chain. Aliases
+     * that end without a registry object are not resolved, and aliases within
+     * a cycle are reported once per cycle and dropped. Aliases leading into a
+     * cycle are not resolved, but are not reported as part of the cycle.
+     *
+     * @param name the name of the registry holding the aliases
+     * @param aliases the aliases mapped to the identifier they point to
+     * @param keys the identifiers of the registry objects
+     * @param cycleReporter reports the aliases within each cycle in the order they point to each other
+     * @return the aliases mapped to the identifier of the registry object they resolve to
+     */
+    static Map<ResourceLocation, ResourceLocation> resolveAliases(final ResourceLocation name, final Map<ResourceLocation, ResourceLocation> aliases,
+                                                                  final Set<ResourceLocation> keys, final Consumer<List<ResourceLocation>> cycleReporter) {
+        final Map<ResourceLocation, ResourceLocation> resolvedAliases = new HashMap<>();
+        final Set<ResourceLocation> cyclicAliases = new HashSet<>();
+        int chainedAliases = 0, longestChain = 0;
+        for (ResourceLocation alias : aliases.keySet()) {
+            if (keys.contains(alias) || cyclicAliases.contains(alias)) continue;
+
+            final Set<ResourceLocation> chain = new LinkedHashSet<>();
+            @Nullable ResourceLocation key = alias;
+            while (key != null && !keys.contains(key)) {
+                // A chain leading into an already reported cycle is left unresolved
+                if (cyclicAliases.contains(key)) break;
+                if (!chain.add(key)) {
+                    // Only the aliases from the repeated key onwards are part of the cycle
+                    final List<ResourceLocation> links = new ArrayList<>(chain);
+                    final List<ResourceLocation> cycle = ImmutableList.copyOf(links.subList(links.indexOf(key), links.size()));
+                    cycleReporter.accept(cycle);
+                    cyclicAliases.addAll(cycle);
+                    break;
+                }
+                key = aliases.get(key);
+            }
+
+            if (key != null && keys.contains(key)) {
+                resolvedAliases.put(alias, key);
+                if (chain.size() > 1) chainedAliases++;
+                longestChain = Math.max(longestChain, chain.size());
+            }
+        }
+        DynamicRegistries.LOGGER.debug(ALIAS, "Resolved {} aliases within {}, {} of which were chained with the longest chain having {} links", resolvedAliases.size(), name, chainedAliases, longestChain);
+        return resolvedAliases;
+    }
+
+    /**
+     * Assigns integer identifiers to all entries within the registry. Keys that
+     * were previously assigned an identifier keep it, while the identifiers of
+     * keys no longer present are freed for new keys. New keys are assigned in
+     * sorted order to keep the identifiers deterministic.
+     *
+     * @param previousView the view holding the previously assigned identifiers
+     * @return the identifiers of the entries indexed by their integer identifier
+     */
+    private ResourceLocation[] assignIds(final DynamicRegistryView<V> previousView) {
+        final Map<ResourceLocation, Integer> ids = new HashMap<>();
+        final BitSet usedIds = new BitSet();
+        final List<ResourceLocation> newKeys = new ArrayList<>();
+        @Nullable final Map<ResourceLocation, Integer> snapshotIds = this.snapshotIds;
+        this.entries.keySet().forEach(key -> {
+            // Identifiers within a snapshot take precedence so both sides of a sync agree
+            final int previousId = snapshotIds != null ? snapshotIds.getOrDefault(key, -1) : previousView.idOf(key);
+            if (previousId != -1 && !usedIds.get(previousId)) {
+                ids.put(key, previousId);
+                usedIds.set(previousId);
+            } else newKeys.add(key);
+        });
+        Collections.sort(newKeys);
+        int id = -1;
+        for (ResourceLocation key : newKeys) {
+            id = usedIds.nextClearBit(id + 1);
+            usedIds.set(id);
+            ids.put(key, id);
+        }
+
+        final ResourceLocation[] keysById = new ResourceLocation[usedIds.length()];
+        ids.forEach((key, keyId) -> keysById[keyId] = key);
+        return keysById;
     }
 
     @Nullable
@@ -244,6 +825,21 @@ public class DynamicRegistry<V extends IDynamicEntry<V>, C extends ICodecEntry<V
         return this.entries.remove(key);
     }
 
+    /**
+     * Discards all data within the registry, whether published, staged, or
+     * deferred, and publishes an empty registry. Unlike {@link #clear()}, this
+     * may be called while the registry is locked, such as when leaving a world.
+     */
+    public void reset() {
+        this.deferLoad(null);
+        this.discardStaged();
+        this.unlock(false);
+        this.clear();
+        this.decodedEntries = ImmutableMap.of();
+        this.changedOnReload = true;
+        this.lock();
+    }
+
     @Override
     public void clear() {
         if (this.isLocked())
@@ -254,7 +850,7 @@ public class DynamicRegistry<V extends IDynamicEntry<V>, C extends ICodecEntry<V
         this.entries.clear();
         this.dummies.clear();
         this.defaultValue = null;
-        this.missingEntryManager = new MissingEntryManager(Collections.emptyMap());
+        this.missingEntryManager = MissingEntryManager.EMPTY;
     }
 
     @Override
@@ -266,13 +862,13 @@ public class DynamicRegistry<V extends IDynamicEntry<V>, C extends ICodecEntry<V
         ResourceLocation identifier = value.getRegistryName();
         Preconditions.checkNotNull(identifier, "Cannot use a null identifier for entry: " + value);
 
-        V originalEntry = this.getValue(identifier);
+        V originalEntry = this.getBuildingValue(identifier);
         if (originalEntry == value) { // Already registered
             DynamicRegistries.LOGGER.warn(REGISTER, "The object {} has already been registered under the same name {} within registry {}, skipping", value, identifier, this.getName());
             return;
-        } else if (this.containsValue(value)) { // Value already registered
-            throw new IllegalArgumentException("The object " + value + " has already been registered under the name " + this.getKey(value));
-        } else if (this.containsKey(identifier)) { // Key already registered
+        } else if (this.getBuildingKey(value) != null) { // Value already registered
+            throw new IllegalArgumentException("The object " + value + " has already been registered under the name " + this.getBuildingKey(value));
+        } else if (this.containsBuildingKey(identifier)) { // Key already registered
             if (identifier.equals(this.defaultKey) && this.defaultValue != null) // Setting the default key again
                 throw new IllegalArgumentException("Cannot override the default entry " + identifier + " within registry " + this.getName());
             DynamicRegistries.LOGGER.debug(REGISTER, "Registry {} Override: {} {} -> {}", this.getName(), identifier, originalEntry, value);
@@ -286,29 +882,107 @@ public class DynamicRegistry<V extends IDynamicEntry<V>, C extends ICodecEntry<V
         this.dummies.remove(identifier);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote
+     * The whole batch is validated in one pass before any registry object is
+     * registered, so an invalid registry object leaves the registry being built
+     * unchanged. Overridden and already registered entries are logged once for
+     * the batch rather than for each registry object.
+     */
     @Override
-    public DynamicRegistry<V, C> copy(final DynamicRegistryManager stage) {
-        return new DynamicRegistry<>(builder, stage);
-    }
+    public void registerAll(final Collection<? extends V> values) {
+        if (this.isLocked())
+            throw this.constructLockedError("register");
+        if (values.isEmpty()) return;
 
-    @Override
-    public Set<ResourceLocation> setAndUnlockFromStage(final DynamicRegistryManager stage) {
-        Set<ResourceLocation> oldEntries = new HashSet<>();
-        oldEntries.addAll(this.keySet());
-        oldEntries.addAll(this.aliases.keySet());
-        oldEntries.addAll(this.dummies);
+        final Map<ResourceLocation, V> batch = Maps.newLinkedHashMapWithExpectedSize(values.size());
+        final Map<V, ResourceLocation> batchKeys = new IdentityHashMap<>(values.size());
+        int overridden = 0, skipped = 0;
+        for (V value : values) {
+            Preconditions.checkNotNull(value, "Cannot add a null object to the registry.");
+            final ResourceLocation identifier = value.getRegistryName();
+            Preconditions.checkNotNull(identifier, "Cannot use a null identifier for entry: " + value);
 
-        IDynamicRegistry<V, C> stagedRegistry = stage.getRegistry(this.getName());
-        if (stagedRegistry == null)
+            final boolean inBatch = batch.containsKey(identifier);
+            if ((inBatch ? batch.get(identifier) : this.getBuildingValue(identifier)) == value) { // Already registered
+                skipped++;
+                continue;
+            }
+            @Nullable ResourceLocation registeredKey = batchKeys.get(value);
+            // A value registered before the batch no longer counts if the batch has overridden its key
+            if (registeredKey == null && (registeredKey = this.getBuildingKey(value)) != null && batch.containsKey(registeredKey))
+                registeredKey = null;
+            if (registeredKey != null) // Value already registered
+                throw new IllegalArgumentException("The object " + value + " has already been registered under the name " + registeredKey);
+            if (inBatch || this.containsBuildingKey(identifier)) { // Key already registered
+                if (identifier.equals(this.defaultKey) && (this.defaultValue != null || inBatch)) // Setting the default key again
+                    throw new IllegalArgumentException("Cannot override the default entry " + identifier + " within registry " + this.getName());
+                overridden++;
+            }
+
+            @Nullable final V replaced = batch.put(identifier, value);
+            if (replaced != null) batchKeys.remove(replaced);
+            batchKeys.put(value, identifier);
+        }
+
+        // Storage that starts empty, such as when the registry is cleared, is sized for the batch up front
+        if (this.entries.isEmpty())
+            this.entries = this.storageMode == StorageMode.INDEXED ? HashBiMap.create(batch.size()) : Maps.newHashMapWithExpectedSize(batch.size());
+        this.entries.putAll(batch);
+        if (!this.dummies.isEmpty()) this.dummies.removeAll(batch.keySet());
+        if (this.defaultKey != null && batch.containsKey(this.defaultKey)) this.defaultValue = batch.get(this.defaultKey);
+
+        if (skipped > 0)
+            DynamicRegistries.LOGGER.warn(REGISTER, "{} objects have already been registered under the same name within registry {}, skipping", skipped, this.getName());
+        DynamicRegistries.LOGGER.debug(REGISTER, "Registered {} objects to {}, overriding {}", batch.size(), this.getName(), overridden);
+    }
+
+    /**
+     * Gets the identifier associated with the {@code value} within the registry
+     * being built.
+     *
+     * @param value the registry object
+     * @return the associated identifier or {@code null}
+     */
+    @Nullable
+    private ResourceLocation getBuildingKey(final V value) {
+        if (this.storageMode == StorageMode.INDEXED) return ((BiMap<ResourceLocation, V>) this.entries).inverse().get(value);
+        final ResourceLocation name = value.getRegistryName();
+        return name != null && this.entries.get(name) == value ? name : null;
+    }
+
+    @Override
+    public DynamicRegistry<V, C> copy(final DynamicRegistryManager stage) {
+        return new DynamicRegistry<>(builder, stage);
+    }
+
+    @Override
+    public Set<ResourceLocation> setAndUnlockFromStage(final DynamicRegistryManager stage) {
+        final DynamicRegistryView<V> view = this.latestView();
+        Set<ResourceLocation> oldEntries = new HashSet<>();
+        oldEntries.addAll(view.keySet());
+        oldEntries.addAll(view.aliases().keySet());
+        oldEntries.addAll(view.dummies());
+
+        IDynamicRegistry<V, C> stagedRegistry = stage.getRegistry(this.getName());
+        if (stagedRegistry == null)
             throw new IllegalArgumentException("The registry " + this.getName() + " does not exist within " + stage.getName());
-        this.unlock();
-        Stream<V> stagedEntries = stagedRegistry.stream();
-        // If the reload strategy is clear we want to remove all current entries and replace them.
-        // Otherwise, we just want filter out the already registered entries and then register whatever is left.
-        if (this.reloadStrategy == ReloadStrategy.CLEAR) {
-            this.clear();
-        } else stagedEntries = stagedEntries.filter(value -> !this.containsValue(value));
-        stagedEntries.forEach(this::register);
+        // The current entries only need to be copied if they are kept by the reload strategy.
+        this.unlock(this.reloadStrategy != ReloadStrategy.CLEAR);
+        try {
+            Stream<V> stagedEntries = stagedRegistry.stream();
+            // If the reload strategy is clear we want to remove all current entries and replace them.
+            // Otherwise, we just want filter out the already registered entries and then register whatever is left.
+            if (this.reloadStrategy == ReloadStrategy.CLEAR) {
+                this.clear();
+            } else stagedEntries = stagedEntries.filter(value -> this.getBuildingKey(value) == null);
+            this.registerAll(stagedEntries.collect(Collectors.toList()));
+        } catch (RuntimeException e) {
+            this.discardStaged();
+            throw e;
+        }
         return ImmutableSet.copyOf(oldEntries);
     }
 
@@ -319,44 +993,338 @@ public class DynamicRegistry<V extends IDynamicEntry<V>, C extends ICodecEntry<V
      * @param aliases the entry aliases of the snapshot
      * @param dummies the dummy entries of the snapshot
      * @param isSavedData if the data was populated from {@link DynamicRegistryData}
+     * @param publish if the data should be published once written rather than staged
      * @return the current registry instance with the data overwritten
      */
-    private DynamicRegistry<V, C> fromSnapshot(final Map<ResourceLocation, V> entries, final Map<ResourceLocation, ResourceLocation> aliases, final Set<ResourceLocation> dummies, final boolean isSavedData) {
-        this.unlock();
-        if (isSavedData) {
-            if (this.reloadStrategy == ReloadStrategy.REPLACE) {
-                dummies.stream().filter(id -> !this.containsKey(id)).forEach(this.dummies::add);
-                entries.entrySet().stream().filter(entry -> !this.containsKey(entry.getKey())).forEach(entry -> {
-                    V registryObject = entry.getValue();
-                    registryObject.setRegistryName(entry.getKey());
-                    this.register(registryObject);
-                });
-                aliases.entrySet().stream().filter(entry -> !this.aliases.containsKey(entry.getKey())).forEach(entry -> this.aliases.put(entry.getKey(), entry.getValue()));
+    private DynamicRegistry<V, C> fromSnapshot(final Map<ResourceLocation, V> entries, final Map<ResourceLocation, ResourceLocation> aliases, final Set<ResourceLocation> dummies,
+                                               final boolean isSavedData, final boolean publish) {
+        this.unlock(isSavedData);
+        try {
+            if (isSavedData) {
+                if (this.reloadStrategy == ReloadStrategy.REPLACE) {
+                    dummies.stream().filter(id -> !this.containsBuildingKey(id)).forEach(this.dummies::add);
+                    this.registerAll(entries.entrySet().stream().filter(entry -> !this.containsBuildingKey(entry.getKey())).map(entry -> {
+                        V registryObject = entry.getValue();
+                        registryObject.setRegistryName(entry.getKey());
+                        return registryObject;
+                    }).collect(Collectors.toList()));
+                    aliases.entrySet().stream().filter(entry -> !this.aliases.containsKey(entry.getKey())).forEach(entry -> this.aliases.put(entry.getKey(), entry.getValue()));
 
+                } else {
+                    this.handleMissingEntries(Streams.concat(entries.keySet().stream(), aliases.keySet().stream(), dummies.stream()));
+                }
             } else {
-                this.handleMissingEntries(Streams.concat(entries.keySet().stream(), aliases.keySet().stream(), dummies.stream()));
+                this.clear();
+                this.dummies.addAll(dummies);
+                entries.forEach((id, registryObject) -> registryObject.setRegistryName(id));
+                this.registerAll(entries.values());
+                this.aliases.putAll(aliases);
             }
-        } else {
-            this.clear();
-            this.dummies.addAll(dummies);
-            entries.forEach((id, registryObject) -> {
-                registryObject.setRegistryName(id);
-                this.register(registryObject);
-            });
-            this.aliases.putAll(aliases);
+        } catch (RuntimeException e) {
+            // A failed missing entry strategy leaves the previously published registry intact
+            this.discardStaged();
+            throw e;
         }
-        this.lock();
+        if (publish) this.lock();
+        else this.stageLock();
         return this;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote
+     * Only entries whose content has changed since the last reload are decoded.
+     * See {@link #registerAll(Collection, Function, DynamicOps, Executor)}.
+     */
+    @Override
+    public <T> void registerAll(final Map<ResourceLocation, T> entries, final DynamicOps<T> ops) {
+        this.registerAll(entries.keySet(), entries::get, ops, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote
+     * Only entries whose content has changed since the last reload are decoded.
+     * See {@link #registerAll(Collection, Function, DynamicOps, Executor)}.
+     */
+    @Override
+    public <T> void registerAll(final Map<ResourceLocation, T> entries, final DynamicOps<T> ops, final Executor executor) {
+        this.registerAll(entries.keySet(), entries::get, ops, executor);
+    }
+
+    /**
+     * Registers all registry objects from their encoded forms to the registry,
+     * reading the encoded form of each registry object only when it is about
+     * to be decoded. The encoded form is dropped as soon as it is decoded, so
+     * only the encoded forms currently being decoded are held at once.
+     *
+     * @implNote
+     * Entries are only decoded in parallel if the registry was built with
+     * {@link DynamicRegistryBuilder#decodeInParallel()} and an {@code executor}
+     * is present, otherwise they are decoded on the calling thread. Decoded
+     * entries are reported and registered one at a time in order of their identifier.
+     * <p>
+     * If the registry was built with {@link DynamicRegistryBuilder#reuseUnchangedEntries()},
+     * the content of an entry is hashed from its encoded object, as described by
+     * {@link #hashContent(Object)}.
+     * Entries whose content is unchanged since the last reload keep their previously
+     * decoded registry object, as long as it is still published under the same key,
+     * and are not decoded again. All entries are decoded again if a registry this
+     * registry {@link #getDependencies() depends on} has changed during the current
+     * reload, or, if this registry depends on itself, whenever any of its entries changed.
+     *
+     * @param keys the identifiers of the registry objects
+     * @param reader reads the encoded form of a registry object from its identifier,
+     *               returning {@code null} if it could not be read
+     * @param ops the operator used to transmute the encoded object
+     * @param executor the executor to decode the entries on, or {@code null} to
+     *                 decode them on the calling thread
+     * @param <T> the type of the encoded object
+     */
+    public <T> void registerAll(final Collection<ResourceLocation> keys, final Function<ResourceLocation, ? extends T> reader, final DynamicOps<T> ops, @Nullable final Executor executor) {
+        this.registerAll(keys, reader, ops, executor, null);
+    }
+
+    /**
+     * Registers all registry objects from their encoded forms to the registry,
+     * recording the number of entries read, decoded, reused, and failed to the
+     * {@code report}.
+     *
+     * @param keys the identifiers of the registry objects
+     * @param reader reads the encoded form of a registry object from its identifier,
+     *               returning {@code null} if it could not be read
+     * @param ops the operator used to transmute the encoded object
+     * @param executor the executor to decode the entries on, or {@code null} to
+     *                 decode them on the calling thread
+     * @param report the report to record to, or {@code null} if not recorded
+     * @param <T> the type of the encoded object
+     *
+     * @see #registerAll(Collection, Function, DynamicOps, Executor)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void registerAll(final Collection<ResourceLocation> keys, final Function<ResourceLocation, ? extends T> reader, final DynamicOps<T> ops,
+                                @Nullable final Executor executor, @Nullable final ReloadReport.RegistryReport report) {
+        final ResourceLocation[] sortedKeys = keys.toArray(new ResourceLocation[0]);
+        Arrays.sort(sortedKeys);
+        // Registries which have not opted in may reference registries they have not declared, so nothing is reused
+        final boolean reuseEntries = this.builder.shouldReuseUnchangedEntries();
+        final Map<ResourceLocation, DecodedEntry<V>> previousEntries = !reuseEntries || this.dependenciesChanged() ? ImmutableMap.of() : this.decodedEntries;
+        final Map<ResourceLocation, V> published = this.latestView().entries();
+        final Codec<V> entryCodec = this.entryCodec();
+        final HashCode[] hashes = new HashCode[sortedKeys.length];
+        final DataResult<V>[] results = new DataResult[sortedKeys.length];
+        // Only the encoded forms of entries which failed to decode are kept for reporting
+        final Object[] failures = new Object[sortedKeys.length];
+        final boolean[] reused = new boolean[sortedKeys.length];
+
+        final IntPredicate reuse = i -> {
+            @Nullable final DecodedEntry<V> previous = previousEntries.get(sortedKeys[i]);
+            return previous != null && previous.hash.equals(hashes[i]) && published.get(sortedKeys[i]) == previous.value;
+        };
+        this.decodeAll(sortedKeys.length, executor, i -> {
+            @Nullable final T value = reader.apply(sortedKeys[i]);
+            if (value == null) return;
+            hashes[i] = reuseEntries ? hashContent(value) : UNHASHED;
+            if (reuse.test(i)) reused[i] = true;
+            else {
+                results[i] = entryCodec.parse(ops, value);
+                if (results[i].error().isPresent()) failures[i] = value;
+            }
+        });
+
+        int reusedCount = 0;
+        for (boolean entryReused : reused) if (entryReused) reusedCount++;
+        final boolean changed = reusedCount != sortedKeys.length || reusedCount != this.decodedEntries.size();
+        if (changed && reusedCount > 0 && this.getDependencies().contains(this.getName())) {
+            this.decodeAll(sortedKeys.length, executor, i -> {
+                if (!reused[i]) return;
+                @Nullable final T value = reader.apply(sortedKeys[i]);
+                if (value == null) return;
+                reused[i] = false;
+                results[i] = entryCodec.parse(ops, value);
+                if (results[i].error().isPresent()) failures[i] = value;
+            });
+            reusedCount = 0;
+        }
+
+        final Map<ResourceLocation, DecodedEntry<V>> decodedEntries = new HashMap<>();
+        final List<V> values = new ArrayList<>(sortedKeys.length);
+        int read = 0, decoded = 0, failed = 0;
+        for (int i = 0; i < sortedKeys.length; i++) {
+            if (hashes[i] != null) read++;
+            else failed++;
+            if (results[i] != null) {
+                decoded++;
+                if (failures[i] != null) failed++;
+            }
+            final ResourceLocation key = sortedKeys[i];
+            if (reused[i]) {
+                final DecodedEntry<V> entry = previousEntries.get(key);
+                if (this.entries.get(key) != entry.value) values.add(entry.value);
+                decodedEntries.put(key, entry);
+            } else if (results[i] != null) {
+                @Nullable final Object failure = failures[i];
+                @Nullable final V value = results[i].resultOrPartial(error ->
+                        DynamicRegistries.LOGGER.error(REGISTER, "{} could not be decoded from {} within {}: {}", key, failure, this.getName(), error)).orElse(null);
+                if (value == null) continue;
+                value.setRegistryName(key);
+                values.add(value);
+                // Only successfully decoded entries are kept, so entries which failed will report their errors again
+                if (failure == null && reuseEntries) decodedEntries.put(key, new DecodedEntry<>(hashes[i], value));
+            }
+        }
+        this.registerAll(values);
+
+        DynamicRegistries.LOGGER.debug(REGISTER, "Reused {} unchanged entries and decoded {} entries within {}", reusedCount, decoded, this.getName());
+        if (report != null) report.entries(read, decoded, reusedCount, failed);
+        this.decodedEntries = decodedEntries;
+        this.changedOnReload = changed;
+    }
+
+    /**
+     * Hashes the content of an encoded registry object. JSON is hashed in a
+     * canonical form where the members of every object are sorted by their
+     * name, such that the same content hashes the same regardless of the order
+     * its members were written in. Any other encoded object is hashed from its
+     * string form.
+     *
+     * @param value the encoded registry object
+     * @return the hash of the content
+     */
+    static HashCode hashContent(final Object value) {
+        if (!(value instanceof JsonElement)) return Hashing.murmur3_128().hashUnencodedChars(value.toString());
+        final Hasher hasher = Hashing.murmur3_128().newHasher();
+        hashJson(hasher, (JsonElement) value);
+        return hasher.hash();
+    }
+
+    /**
+     * Adds the canonical form of a JSON element to the hasher. Every element is
+     * prefixed by its kind and every string and collection by its length, such
+     * that different structures never produce the same input.
+     *
+     * @param hasher the hasher to add to
+     * @param element the JSON element
+     */
+    private static void hashJson(final Hasher hasher, final JsonElement element) {
+        if (element.isJsonObject()) {
+            final List<Map.Entry<String, JsonElement>> members = new ArrayList<>(element.getAsJsonObject().entrySet());
+            members.sort(Map.Entry.comparingByKey());
+            hasher.putByte((byte) '{').putInt(members.size());
+            for (Map.Entry<String, JsonElement> member : members) {
+                hashString(hasher, member.getKey());
+                hashJson(hasher, member.getValue());
+            }
+        } else if (element.isJsonArray()) {
+            final JsonArray array = element.getAsJsonArray();
+            hasher.putByte((byte) '[').putInt(array.size());
+            for (JsonElement child : array) hashJson(hasher, child);
+        } else if (element.isJsonNull()) {
+            hasher.putByte((byte) 'n');
+        } else {
+            // The JSON form keeps strings and numbers apart and numbers as written
+            hasher.putByte((byte) 'p');
+            hashString(hasher, element.toString());
+        }
+    }
+
+    /**
+     * Adds a string prefixed by its length to the hasher.
+     *
+     * @param hasher the hasher to add to
+     * @param value the string
+     */
+    private static void hashString(final Hasher hasher, final String value) {
+        hasher.putInt(value.length()).putUnencodedChars(value);
+    }
+
+    /**
+     * Performs the decoding action for every index of the entries being
+     * registered, in parallel on the {@code executor} if enabled.
+     *
+     * @param size the number of entries being registered
+     * @param executor the executor to decode the entries on, or {@code null} to
+     *                 decode them on the calling thread
+     * @param action the decoding action to perform for an index
+     */
+    private void decodeAll(final int size, @Nullable final Executor executor, final IntConsumer action) {
+        if (executor == null || !this.builder.shouldDecodeInParallel()) {
+            for (int i = 0; i < size; i++) action.accept(i);
+            return;
+        }
+
+        final int chunkSize = Math.max(PARALLEL_DECODE_CHUNK_SIZE, size / (Runtime.getRuntime().availableProcessors() * 4) + 1);
+        final List<CompletableFuture<Void>> chunks = new ArrayList<>();
+        for (int start = 0; start < size; start += chunkSize) {
+            final int from = start, to = Math.min(start + chunkSize, size);
+            chunks.add(CompletableFuture.runAsync(() -> {
+                for (int i = from; i < to; i++) action.accept(i);
+            }, executor));
+        }
+        CompletableFuture.allOf(chunks.toArray(new CompletableFuture[0])).join();
+    }
+
+    /**
+     * Checks whether any registry this registry depends on has changed during
+     * the current reload.
+     *
+     * @return {@code true} if a dependency has changed, otherwise {@code false}
+     */
+    private boolean dependenciesChanged() {
+        for (ResourceLocation dependency : this.getDependencies()) {
+            @Nullable final DynamicRegistry<?, ?> registry = this.stage.getRegistry(this.stage.updateLegacyName(dependency));
+            if (registry != null && registry != this && registry.changedOnReload) return true;
+        }
+        return false;
+    }
+
     @Override
     public Codec<V> entryCodec() {
         return this.explodedEntryCodec;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote
+     * Registry objects are looked up within the currently published view of
+     * the registry, unless the data is decoded as part of a reload through a
+     * {@link ReloadOps} which has staged the registry already.
+     */
     @Override
     public <T> DataResult<Pair<V, T>> decode(final DynamicOps<T> ops, final T input) {
-        return this.registryEntryCodec.decode(ops, input);
+        if (!(ops instanceof ReloadOps)) return this.registryEntryCodec.decode(ops, input);
+        final DynamicRegistryView<V> view = this.decodingView(ops);
+        return ResourceLocation.CODEC.decode(ops, input).flatMap(pair -> this.resolve(view, pair.getFirst()).map(value -> Pair.of(value, pair.getSecond())));
+    }
+
+    /**
+     * Returns the view registry objects decoded with the operator are looked
+     * up within.
+     *
+     * @param ops the operator used to transmute the encoded object
+     * @param <T> the type of the encoded object
+     * @return the view staged by the reload the operator belongs to if present,
+     *         otherwise the currently published view
+     */
+    private <T> DynamicRegistryView<V> decodingView(final DynamicOps<T> ops) {
+        @Nullable final DynamicRegistryView<V> stagedView = ops instanceof ReloadOps ? ((ReloadOps<T>) ops).getStagedView(this) : null;
+        return stagedView != null ? stagedView : this.publishedView();
+    }
+
+    /**
+     * Looks up a registry object within a view of the registry.
+     *
+     * @param view the view of the registry
+     * @param key the identifier of the registry object
+     * @return the registry object, or an error if the view does not contain it
+     */
+    private DataResult<V> resolve(final DynamicRegistryView<V> view, final ResourceLocation key) {
+        @Nullable final V value = view.getValue(key);
+        return value != null ? DataResult.success(value)
+                : DataResult.error("Not a valid registry object within " + this.getName() + ": " + key);
     }
 
     @Override
@@ -366,7 +1334,595 @@ public class DynamicRegistry<V extends IDynamicEntry<V>, C extends ICodecEntry<V
 
     @Override
     public Codec<ISnapshotDynamicRegistry<V, C>> snapshotCodec(final boolean isSavedData) {
-        return this.snapshotCodec.apply(isSavedData).xmap(Function.identity(), DynamicRegistry.class::cast);
+        return isSavedData ? this.savedDataSnapshotCodec : this.snapshotCodec;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote
+     * Snapshots written by {@link #toBinarySnapshot()} are also accepted when the
+     * operator can read them as a byte buffer starting with the binary snapshot
+     * header. Any other input, such as a list of numbers, is decoded through the
+     * snapshot codec.
+     */
+    @Override
+    public <T> void fromSnapshot(final T input, final DynamicOps<T> ops, final boolean isSaveData) {
+        final Optional<ByteBuffer> binary = ops.getByteBuffer(input).result().filter(DynamicRegistry::isBinarySnapshot);
+        if (binary.isPresent()) this.readBinarySnapshot(binary.get(), isSaveData, true, binaryEntryOps(ops));
+        else ISnapshotDynamicRegistry.super.fromSnapshot(input, ops, isSaveData);
+    }
+
+    /**
+     * Encodes a registry snapshot in a compact binary form. The snapshot starts with
+     * a fixed header followed by its format version. Identifiers are written
+     * as indices into a table of their namespaces and paths, and all lengths are
+     * written as variable length integers. Only the registry objects themselves are
+     * encoded through the exploded entry codec, avoiding the record and map codecs
+     * of {@link #snapshotCodec(boolean)}. The integer identifier of each registry
+     * object is written alongside it, such that a registry reading the snapshot
+     * outside of saved data assigns the same identifiers.
+     *
+     * @return the binary snapshot, or {@code null} if a registry object could not be encoded
+     */
+    @Nullable
+    public byte[] toBinarySnapshot() {
+        return this.toBinarySnapshot(this.publishedView());
+    }
+
+    /**
+     * Encodes the view staged by the current reload in the form of {@link #toBinarySnapshot()},
+     * such that the result of a reload can be encoded before it is published.
+     *
+     * @return the binary snapshot of the staged view, or of the published view if none is
+     *         staged, or {@code null} if a registry object could not be encoded
+     */
+    @Nullable
+    public byte[] toStagedBinarySnapshot() {
+        return this.toBinarySnapshot(this.latestView());
+    }
+
+    /**
+     * Encodes a view of the registry in the form of {@link #toBinarySnapshot()} on
+     * the {@code executor}. As views are immutable, the registry can continue to be
+     * read and republished while the snapshot is encoded.
+     *
+     * @param view the view to encode
+     * @param executor the executor to encode the snapshot on
+     * @return a future holding the binary snapshot, or {@code null} if a registry
+     *         object could not be encoded
+     *
+     * @see #getView()
+     */
+    public CompletableFuture<byte[]> toBinarySnapshotAsync(final DynamicRegistryView<V> view, final Executor executor) {
+        return this.encodeAsync(() -> this.toBinarySnapshot(view), executor);
+    }
+
+    /**
+     * Encodes the changes between two views of the registry as a record of a
+     * binary journal on the {@code executor}. Records are appended after the
+     * snapshot of the view the first record was made from and replayed in order
+     * by {@link #loadBinarySnapshot(byte[], byte[])}, such that only the
+     * changed registry objects need to be encoded.
+     *
+     * @param from the view the changes are made from
+     * @param to the view the changes are made to
+     * @param executor the executor to encode the record on
+     * @return a future holding the journal record, which is empty if both views
+     *         have the same contents, or {@code null} if a registry object could
+     *         not be encoded
+     */
+    public CompletableFuture<byte[]> toBinaryJournalAsync(final DynamicRegistryView<?> from, final DynamicRegistryView<V> to, final Executor executor) {
+        return this.encodeAsync(() -> this.toBinaryJournal(from, to), executor);
+    }
+
+    /**
+     * Runs an encoder on the {@code executor}, logging any error thrown.
+     *
+     * @param encoder the encoder to run
+     * @param executor the executor to encode on
+     * @return a future holding the encoded data, or {@code null} if it could not be encoded
+     */
+    private CompletableFuture<byte[]> encodeAsync(final Supplier<byte[]> encoder, final Executor executor) {
+        return CompletableFuture.supplyAsync(encoder, executor).exceptionally(e -> {
+            DynamicRegistries.LOGGER.error(SNAPSHOT, "Could not write a snapshot of {}", this.getName(), e);
+            return null;
+        });
+    }
+
+    /**
+     * Encodes a view of the registry in the form of {@link #toBinarySnapshot()}.
+     *
+     * @param view the view to encode
+     * @return the binary snapshot, or {@code null} if a registry object could not be encoded
+     */
+    @Nullable
+    private byte[] toBinarySnapshot(final DynamicRegistryView<V> view) {
+        final Map<ResourceLocation, INBT> encodedEntries = Maps.newLinkedHashMapWithExpectedSize(view.entries().size());
+        for (Map.Entry<ResourceLocation, V> entry : view.entries().entrySet()) {
+            @Nullable final INBT encoded = this.encodeEntry(entry.getKey(), entry.getValue());
+            if (encoded == null) return null;
+            encodedEntries.put(entry.getKey(), encoded);
+        }
+
+        // Every namespace and path is written once, in the order it is first used
+        final Map<String, Integer> strings = new LinkedHashMap<>();
+        encodedEntries.keySet().forEach(key -> addIdentifier(strings, key));
+        view.aliases().forEach((alias, target) -> {
+            addIdentifier(strings, alias);
+            addIdentifier(strings, target);
+        });
+        view.dummies().forEach(key -> addIdentifier(strings, key));
+
+        final PacketBuffer buffer = new PacketBuffer(Unpooled.buffer());
+        try (ByteBufOutputStream output = new ByteBufOutputStream(buffer)) {
+            buffer.writeInt(BINARY_SNAPSHOT_MAGIC);
+            buffer.writeVarInt(BINARY_SNAPSHOT_VERSION);
+            writeStrings(buffer, strings);
+            buffer.writeVarInt(encodedEntries.size());
+            for (Map.Entry<ResourceLocation, INBT> entry : encodedEntries.entrySet()) {
+                writeIdentifier(buffer, strings, entry.getKey());
+                buffer.writeVarInt(view.idOf(entry.getKey()));
+                writeEntry(buffer, output, entry.getValue());
+            }
+            buffer.writeVarInt(view.aliases().size());
+            view.aliases().forEach((alias, target) -> {
+                writeIdentifier(buffer, strings, alias);
+                writeIdentifier(buffer, strings, target);
+            });
+            buffer.writeVarInt(view.dummies().size());
+            view.dummies().forEach(dummy -> writeIdentifier(buffer, strings, dummy));
+            return ByteBufUtil.getBytes(buffer);
+        } catch (IOException e) {
+            DynamicRegistries.LOGGER.error(SNAPSHOT, "Could not write a snapshot of {}", this.getName(), e);
+            return null;
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Encodes the changes between two views of the registry as a record of a
+     * binary journal. Each record is prefixed by its length such that a record
+     * left incomplete by an interrupted write can be detected.
+     *
+     * @param from the view the changes are made from
+     * @param to the view the changes are made to
+     * @return the journal record, which is empty if both views have the same
+     *         contents, or {@code null} if a registry object could not be encoded
+     *
+     * @see #toBinaryJournalAsync(DynamicRegistryView, DynamicRegistryView, Executor)
+     */
+    @Nullable
+    private byte[] toBinaryJournal(final DynamicRegistryView<?> from, final DynamicRegistryView<V> to) {
+        final Set<ResourceLocation> keys = new LinkedHashSet<>(from.entries().keySet());
+        keys.addAll(to.entries().keySet());
+        keys.addAll(from.aliases().keySet());
+        keys.addAll(to.aliases().keySet());
+        keys.addAll(from.dummies());
+        keys.addAll(to.dummies());
+
+        // Every changed key is removed and then written again with its current state
+        final List<ResourceLocation> removed = new ArrayList<>();
+        final Map<ResourceLocation, INBT> registered = new LinkedHashMap<>();
+        final Map<ResourceLocation, ResourceLocation> aliased = new LinkedHashMap<>();
+        final List<ResourceLocation> dummied = new ArrayList<>();
+        for (ResourceLocation key : keys) {
+            @Nullable final Object previousValue = from.entries().get(key);
+            @Nullable final V value = to.entries().get(key);
+            @Nullable final ResourceLocation previousAlias = from.aliases().get(key), alias = to.aliases().get(key);
+            final boolean previousDummy = from.dummies().contains(key), dummy = to.dummies().contains(key);
+            if (previousValue == value && Objects.equals(previousAlias, alias) && previousDummy == dummy) continue;
+
+            if (previousValue != null || previousAlias != null || previousDummy) removed.add(key);
+            if (value != null) {
+                @Nullable final INBT encoded = this.encodeEntry(key, value);
+                if (encoded == null) return null;
+                registered.put(key, encoded);
+            }
+            if (alias != null) aliased.put(key, alias);
+            if (dummy) dummied.add(key);
+        }
+        if (removed.isEmpty() && registered.isEmpty() && aliased.isEmpty() && dummied.isEmpty()) return new byte[0];
+
+        final Map<String, Integer> strings = new LinkedHashMap<>();
+        removed.forEach(key -> addIdentifier(strings, key));
+        registered.keySet().forEach(key -> addIdentifier(strings, key));
+        aliased.forEach((key, target) -> {
+            addIdentifier(strings, key);
+            addIdentifier(strings, target);
+        });
+        dummied.forEach(key -> addIdentifier(strings, key));
+
+        final PacketBuffer record = new PacketBuffer(Unpooled.buffer()), buffer = new PacketBuffer(Unpooled.buffer());
+        try (ByteBufOutputStream output = new ByteBufOutputStream(record)) {
+            record.writeVarInt(BINARY_SNAPSHOT_VERSION);
+            writeStrings(record, strings);
+            record.writeVarInt(removed.size() + registered.size() + aliased.size() + dummied.size());
+            removed.forEach(key -> {
+                record.writeByte(JournalOperation.REMOVE.ordinal());
+                writeIdentifier(record, strings, key);
+            });
+            for (Map.Entry<ResourceLocation, INBT> entry : registered.entrySet()) {
+                record.writeByte(JournalOperation.REGISTER.ordinal());
+                writeIdentifier(record, strings, entry.getKey());
+                writeEntry(record, output, entry.getValue());
+            }
+            aliased.forEach((key, target) -> {
+                record.writeByte(JournalOperation.ALIAS.ordinal());
+                writeIdentifier(record, strings, key);
+                writeIdentifier(record, strings, target);
+            });
+            dummied.forEach(key -> {
+                record.writeByte(JournalOperation.DUMMY.ordinal());
+                writeIdentifier(record, strings, key);
+            });
+            final byte[] payload = ByteBufUtil.getBytes(record);
+            buffer.writeVarInt(payload.length);
+            buffer.writeBytes(payload);
+            DynamicRegistries.LOGGER.debug(SNAPSHOT, "Journaled {} removed, {} registered, {} aliased, and {} dummy entries of {}",
+                    removed.size(), registered.size(), aliased.size(), dummied.size(), this.getName());
+            return ByteBufUtil.getBytes(buffer);
+        } catch (IOException e) {
+            DynamicRegistries.LOGGER.error(SNAPSHOT, "Could not write a journal record of {}", this.getName(), e);
+            return null;
+        } finally {
+            record.release();
+            buffer.release();
+        }
+    }
+
+    /**
+     * Decodes and implements a registry snapshot written by {@link #toBinarySnapshot()}.
+     *
+     * @param snapshot the binary snapshot
+     * @param isSavedData if the data was populated from {@link DynamicRegistryData}
+     * @return {@code true} if the snapshot was implemented, otherwise {@code false}
+     *
+     * @see #fromSnapshot(Object, DynamicOps, boolean)
+     */
+    public boolean fromBinarySnapshot(final byte[] snapshot, final boolean isSavedData) {
+        return this.readBinarySnapshot(ByteBuffer.wrap(snapshot), isSavedData, true, NBTDynamicOps.INSTANCE);
+    }
+
+    /**
+     * Decodes saved data written as a registry snapshot by {@link #toBinarySnapshot()},
+     * replays the records of the journal written after it, and merges the result
+     * into the registry. Replaying stops at the first record which cannot be read,
+     * such as one left incomplete by an interrupted write.
+     *
+     * @param snapshot the binary snapshot
+     * @param journal the records written by {@link #toBinaryJournalAsync(DynamicRegistryView, DynamicRegistryView, Executor)}
+     *                after the snapshot, or {@code null} if there are none
+     * @return {@code true} if the registry holds exactly the saved data once merged,
+     *         or {@code false} if merging changed it, such as when reloaded entries
+     *         are kept or missing entries are handled
+     * @throws IllegalStateException if the snapshot could not be decoded
+     */
+    public boolean loadBinarySnapshot(final byte[] snapshot, @Nullable final byte[] journal) {
+        final Map<ResourceLocation, V> entries = new LinkedHashMap<>();
+        final Map<ResourceLocation, ResourceLocation> aliases = new HashMap<>();
+        final Set<ResourceLocation> dummies = new HashSet<>();
+        if (!this.decodeBinarySnapshot(ByteBuffer.wrap(snapshot), entries, aliases, dummies, null, NBTDynamicOps.INSTANCE))
+            throw new IllegalStateException("Could not decode the saved data of " + this.getName());
+        if (journal != null) this.replayBinaryJournal(journal, entries, aliases, dummies);
+        this.fromSnapshot(entries, aliases, dummies, true, true);
+
+        // Merged registry objects are the decoded instances themselves, so any other instance was not saved
+        final DynamicRegistryView<V> view = this.latestView();
+        return view.entries().size() == entries.size() && view.aliases().equals(aliases) && view.dummies().equals(dummies)
+                && entries.entrySet().stream().allMatch(entry -> view.entries().get(entry.getKey()) == entry.getValue());
+    }
+
+    /**
+     * Decodes a registry snapshot written by {@link #toBinarySnapshot()} and
+     * writes it to the registry.
+     *
+     * @param snapshot the binary snapshot
+     * @param isSavedData if the data was populated from {@link DynamicRegistryData}
+     * @param publish if the data should be published once written rather than staged
+     * @param entryOps the operator used to decode the registry objects
+     * @return {@code true} if the snapshot was written, otherwise {@code false}
+     */
+    private boolean readBinarySnapshot(final ByteBuffer snapshot, final boolean isSavedData, final boolean publish, final DynamicOps<INBT> entryOps) {
+        final Map<ResourceLocation, V> entries = new HashMap<>();
+        final Map<ResourceLocation, ResourceLocation> aliases = new HashMap<>();
+        final Set<ResourceLocation> dummies = new HashSet<>();
+        final Map<ResourceLocation, Integer> ids = new HashMap<>();
+        if (!this.decodeBinarySnapshot(snapshot, entries, aliases, dummies, ids, entryOps)) return false;
+        // Saved data is merged into the reloaded registry, which already has its identifiers
+        if (!isSavedData) this.snapshotIds = ids;
+        this.fromSnapshot(entries, aliases, dummies, isSavedData, publish);
+        return true;
+    }
+
+    /**
+     * Decodes a registry snapshot written by {@link #toBinarySnapshot()}.
+     *
+     * @param snapshot the binary snapshot
+     * @param entries the map to add the decoded entries to
+     * @param aliases the map to add the decoded entry aliases to
+     * @param dummies the set to add the decoded dummy entries to
+     * @param ids the map to add the integer identifiers of the decoded entries to, or {@code null} if unused
+     * @param entryOps the operator used to decode the registry objects
+     * @return {@code true} if the snapshot was decoded, otherwise {@code false}
+     */
+    private boolean decodeBinarySnapshot(final ByteBuffer snapshot, final Map<ResourceLocation, V> entries, final Map<ResourceLocation, ResourceLocation> aliases,
+                                         final Set<ResourceLocation> dummies, @Nullable final Map<ResourceLocation, Integer> ids, final DynamicOps<INBT> entryOps) {
+        final PacketBuffer buffer = new PacketBuffer(Unpooled.wrappedBuffer(snapshot));
+        try (ByteBufInputStream input = new ByteBufInputStream(buffer)) {
+            if (!isBinarySnapshot(snapshot)) {
+                DynamicRegistries.LOGGER.error(SNAPSHOT, "Could not decode a snapshot of {}: missing binary snapshot header", this.getName());
+                return false;
+            }
+            buffer.skipBytes(Integer.BYTES);
+            final int version = buffer.readVarInt();
+            if (version != BINARY_SNAPSHOT_VERSION) {
+                DynamicRegistries.LOGGER.error(SNAPSHOT, "Could not decode a snapshot of {}: unknown version {}", this.getName(), version);
+                return false;
+            }
+            final String[] strings = readStrings(buffer);
+            final int entryCount = buffer.readVarInt();
+            for (int i = 0; i < entryCount; i++) {
+                final ResourceLocation key = readIdentifier(buffer, strings);
+                final int id = buffer.readVarInt();
+                @Nullable final V value = this.readEntry(buffer, input, key, entryOps);
+                if (value == null) return false;
+                entries.put(key, value);
+                if (ids != null) ids.put(key, id);
+            }
+            final int aliasCount = buffer.readVarInt();
+            for (int i = 0; i < aliasCount; i++) aliases.put(readIdentifier(buffer, strings), readIdentifier(buffer, strings));
+            final int dummyCount = buffer.readVarInt();
+            for (int i = 0; i < dummyCount; i++) dummies.add(readIdentifier(buffer, strings));
+            return true;
+        } catch (IOException | RuntimeException e) {
+            DynamicRegistries.LOGGER.error(SNAPSHOT, "Could not read a snapshot of {}", this.getName(), e);
+            return false;
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Replays the records of a binary journal onto a decoded registry snapshot.
+     * Each record is only applied once it has been read completely.
+     *
+     * @param journal the records of the journal
+     * @param entries the decoded entries of the snapshot
+     * @param aliases the decoded entry aliases of the snapshot
+     * @param dummies the decoded dummy entries of the snapshot
+     */
+    private void replayBinaryJournal(final byte[] journal, final Map<ResourceLocation, V> entries,
+                                     final Map<ResourceLocation, ResourceLocation> aliases, final Set<ResourceLocation> dummies) {
+        final PacketBuffer buffer = new PacketBuffer(Unpooled.wrappedBuffer(journal));
+        int records = 0;
+        try (ByteBufInputStream input = new ByteBufInputStream(buffer)) {
+            while (buffer.isReadable()) {
+                final int length = buffer.readVarInt();
+                if (length > buffer.readableBytes()) {
+                    DynamicRegistries.LOGGER.warn(SNAPSHOT, "Found an incomplete record at the end of the journal of {}, ignoring", this.getName());
+                    return;
+                }
+                final int version = buffer.readVarInt();
+                if (version != BINARY_SNAPSHOT_VERSION) {
+                    DynamicRegistries.LOGGER.error(SNAPSHOT, "Could not replay the journal of {}: unknown version {}", this.getName(), version);
+                    return;
+                }
+                final String[] strings = readStrings(buffer);
+                final int operationCount = buffer.readVarInt();
+                final List<Consumer<Map<ResourceLocation, V>>> operations = new ArrayList<>(operationCount);
+                for (int i = 0; i < operationCount; i++) {
+                    final JournalOperation operation = JournalOperation.values()[buffer.readByte()];
+                    final ResourceLocation key = readIdentifier(buffer, strings);
+                    switch (operation) {
+                        case REMOVE:
+                            operations.add(map -> {
+                                map.remove(key);
+                                aliases.remove(key);
+                                dummies.remove(key);
+                            });
+                            break;
+                        case REGISTER:
+                            @Nullable final V value = this.readEntry(buffer, input, key, NBTDynamicOps.INSTANCE);
+                            if (value == null) return;
+                            operations.add(map -> map.put(key, value));
+                            break;
+                        case ALIAS:
+                            final ResourceLocation target = readIdentifier(buffer, strings);
+                            operations.add(map -> aliases.put(key, target));
+                            break;
+                        case DUMMY:
+                            operations.add(map -> dummies.add(key));
+                            break;
+                    }
+                }
+                operations.forEach(operation -> operation.accept(entries));
+                records++;
+            }
+        } catch (IOException | RuntimeException e) {
+            DynamicRegistries.LOGGER.error(SNAPSHOT, "Could not replay the journal of {}, ignoring the remaining records", this.getName(), e);
+        } finally {
+            buffer.release();
+            DynamicRegistries.LOGGER.debug(SNAPSHOT, "Replayed {} journal records of {}", records, this.getName());
+        }
+    }
+
+    /**
+     * Encodes a registry object through the exploded entry codec.
+     *
+     * @param key the identifier of the registry object
+     * @param value the registry object
+     * @return the encoded registry object, or {@code null} if it could not be encoded
+     */
+    @Nullable
+    private INBT encodeEntry(final ResourceLocation key, final V value) {
+        final DataResult<INBT> result = this.explodedEntryCodec.encodeStart(NBTDynamicOps.INSTANCE, value);
+        @Nullable final String error = result.error().map(DataResult.PartialResult::message).orElse(null);
+        if (error != null) {
+            DynamicRegistries.LOGGER.error(SNAPSHOT, "Could not encode {} within a snapshot of {}: {}", key, this.getName(), error);
+            return null;
+        }
+        return result.result().get();
+    }
+
+    /**
+     * Reads a registry object written by {@link #writeEntry(PacketBuffer, ByteBufOutputStream, INBT)}
+     * and decodes it through the exploded entry codec.
+     *
+     * @param buffer the buffer to read from
+     * @param input the stream reading from the buffer
+     * @param key the identifier of the registry object
+     * @param entryOps the operator used to decode the registry object
+     * @return the registry object, or {@code null} if it could not be decoded
+     * @throws IOException if the encoded registry object could not be read
+     */
+    @Nullable
+    private V readEntry(final PacketBuffer buffer, final ByteBufInputStream input, final ResourceLocation key, final DynamicOps<INBT> entryOps) throws IOException {
+        final INBT encoded = NBTTypes.getType(buffer.readByte()).load(input, 0, NBTSizeTracker.UNLIMITED);
+        final DataResult<V> result = this.explodedEntryCodec.parse(entryOps, encoded);
+        @Nullable final String error = result.error().map(DataResult.PartialResult::message).orElse(null);
+        if (error != null) {
+            DynamicRegistries.LOGGER.error(SNAPSHOT, "Could not decode {} within a snapshot of {}: {}", key, this.getName(), error);
+            return null;
+        }
+        final V value = result.result().get();
+        value.setRegistryName(key);
+        return value;
+    }
+
+    /**
+     * Gets the operator used to decode the registry objects of a binary snapshot
+     * read through another operator. The registry objects of a snapshot read
+     * during a reload still resolve against the views staged by that reload.
+     *
+     * @param ops the operator the binary snapshot was read through
+     * @return the operator used to decode the registry objects
+     */
+    private static DynamicOps<INBT> binaryEntryOps(final DynamicOps<?> ops) {
+        return ops instanceof ReloadOps ? ((ReloadOps<?>) ops).withDelegate(NBTDynamicOps.INSTANCE) : NBTDynamicOps.INSTANCE;
+    }
+
+    /**
+     * Checks whether the bytes start with the header of a snapshot written by
+     * {@link #toBinarySnapshot()}. The position of the buffer is left unchanged.
+     *
+     * @param bytes the bytes to check
+     * @return {@code true} if the bytes hold a binary snapshot, otherwise {@code false}
+     */
+    private static boolean isBinarySnapshot(final ByteBuffer bytes) {
+        return bytes.remaining() >= Integer.BYTES && bytes.getInt(bytes.position()) == BINARY_SNAPSHOT_MAGIC;
+    }
+
+    /**
+     * Writes an encoded registry object as its type followed by its contents.
+     *
+     * @param buffer the buffer to write to
+     * @param output the stream writing to the buffer
+     * @param encoded the encoded registry object
+     * @throws IOException if the encoded registry object could not be written
+     */
+    private static void writeEntry(final PacketBuffer buffer, final ByteBufOutputStream output, final INBT encoded) throws IOException {
+        buffer.writeByte(encoded.getId());
+        encoded.write(output);
+    }
+
+    /**
+     * Adds the namespace and path of an identifier to the table of written
+     * strings if not already present.
+     *
+     * @param strings the indices of the written strings
+     * @param key the identifier to add
+     */
+    private static void addIdentifier(final Map<String, Integer> strings, final ResourceLocation key) {
+        strings.putIfAbsent(key.getNamespace(), strings.size());
+        strings.putIfAbsent(key.getPath(), strings.size());
+    }
+
+    /**
+     * Writes the table of strings in the order of their indices.
+     *
+     * @param buffer the buffer to write to
+     * @param strings the indices of the written strings
+     */
+    private static void writeStrings(final PacketBuffer buffer, final Map<String, Integer> strings) {
+        buffer.writeVarInt(strings.size());
+        strings.keySet().forEach(buffer::writeUtf);
+    }
+
+    /**
+     * Reads a table of strings written by {@link #writeStrings(PacketBuffer, Map)}.
+     *
+     * @param buffer the buffer to read from
+     * @return the written strings
+     */
+    private static String[] readStrings(final PacketBuffer buffer) {
+        final String[] strings = new String[buffer.readVarInt()];
+        for (int i = 0; i < strings.length; i++) strings[i] = buffer.readUtf();
+        return strings;
+    }
+
+    /**
+     * Writes an identifier as the indices of its namespace and path.
+     *
+     * @param buffer the buffer to write to
+     * @param strings the indices of the written strings
+     * @param key the identifier to write
+     */
+    private static void writeIdentifier(final PacketBuffer buffer, final Map<String, Integer> strings, final ResourceLocation key) {
+        buffer.writeVarInt(strings.get(key.getNamespace()));
+        buffer.writeVarInt(strings.get(key.getPath()));
+    }
+
+    /**
+     * Reads an identifier from the indices of its namespace and path.
+     *
+     * @param buffer the buffer to read from
+     * @param strings the written strings
+     * @return the read identifier
+     */
+    private static ResourceLocation readIdentifier(final PacketBuffer buffer, final String[] strings) {
+        return ResourceLocationInterner.intern(strings[buffer.readVarInt()], strings[buffer.readVarInt()]);
+    }
+
+    /**
+     * Decodes the registry snapshot and stages it without publishing it, such
+     * that it replaces the contents of the registry once {@link #publishStaged()}
+     * is called.
+     *
+     * @implNote
+     * The registry objects within a binary snapshot are decoded through the
+     * {@code ops} as well, such that references decoded through a {@link ReloadOps}
+     * resolve against the registries staged by its reload.
+     *
+     * @param input the encoded form of the registry snapshot
+     * @param ops the operator used to transmute the encoded object
+     * @param <T> the type of the encoded object
+     * @return {@code true} if the snapshot was staged, otherwise {@code false}
+     */
+    public <T> boolean stageSnapshot(final T input, final DynamicOps<T> ops) {
+        final Optional<ByteBuffer> binary = ops.getByteBuffer(input).result().filter(DynamicRegistry::isBinarySnapshot);
+        if (binary.isPresent()) return this.readBinarySnapshot(binary.get(), false, false, binaryEntryOps(ops));
+        final Optional<String> error = this.stagedSnapshotCodec.parse(ops, input).error().map(DataResult.PartialResult::message);
+        error.ifPresent(message -> DynamicRegistries.LOGGER.error(SNAPSHOT, "Could not decode a snapshot of {}: {}", this.getName(), message));
+        return !error.isPresent();
+    }
+
+    /**
+     * Creates the codec for encoding/decoding the registry from its snapshot.
+     *
+     * @param isSavedData if the data was populated from {@link DynamicRegistryData}
+     * @param publish if the decoded data should be published rather than staged
+     * @return the codec for encoding/decoding the registry from its snapshot
+     */
+    private Codec<DynamicRegistry<V, C>> createSnapshotCodec(final boolean isSavedData, final boolean publish) {
+        return RecordCodecBuilder.create(instance ->
+                instance.group(
+                        Codec.unboundedMap(ResourceLocationInterner.CODEC, this.explodedEntryCodec).fieldOf("entries").forGetter(reg -> reg.publishedView().entries()),
+                        Codec.unboundedMap(ResourceLocationInterner.CODEC, ResourceLocationInterner.CODEC).fieldOf("aliases").forGetter(reg -> reg.publishedView().aliases()),
+                        ResourceLocationInterner.CODEC.listOf().xmap(list -> (Set<ResourceLocation>) ImmutableSet.copyOf(list), ImmutableList::copyOf).fieldOf("dummies").forGetter(reg -> reg.publishedView().dummies())
+                ).apply(instance, (entries, aliases, dummies) -> this.fromSnapshot(entries, aliases, dummies, isSavedData, publish))
+        );
     }
 
     /**
@@ -379,32 +1935,42 @@ public class DynamicRegistry<V extends IDynamicEntry<V>, C extends ICodecEntry<V
      * @param <T> the type of the encoded object
      */
     public <T> void postReloadedEntries(final Set<ResourceLocation> oldEntries, final Set<T> entryStrategies, final DynamicOps<T> ops) {
-        // Invalidate the original entry manager and add old entries
-        this.missingEntryManager = new MissingEntryManager(Collections.emptyMap());
-        entryStrategies.forEach(strategies -> this.addEntryStrategies(strategies, ops));
-
+        this.setEntryStrategies(entryStrategies, ops);
         this.handleMissingEntries(oldEntries.stream());
     }
 
     /**
-     * Handles the resolution strategy for any missing entries.
+     * Replaces the missing entry manager with the encoded entry strategies.
      *
-     * @param oldEntries the original entries within the registry
+     * @param entryStrategies the encoded entry strategies
+     * @param ops the operator used to transmute the encoded object
+     * @param <T> the type of the encoded object
      */
-    private void handleMissingEntries(final Stream<ResourceLocation> oldEntries) {
-        oldEntries.filter(id -> !this.containsKey(id) && !this.aliases.containsKey(id) && !this.dummies.contains(id))
-                .forEach(id -> this.missingEntryManager.handle(id, this));
+    public <T> void setEntryStrategies(final Set<T> entryStrategies, final DynamicOps<T> ops) {
+        // Invalidate the original entry manager and compile the new strategies once
+        final MissingEntryManager.Builder builder = MissingEntryManager.builder();
+        entryStrategies.forEach(strategies -> builder.add(strategies, ops));
+        this.missingEntryManager = builder.build();
     }
 
     /**
-     * Adds entries strategies to the manager.
+     * Handles the resolution strategy for any missing entries.
      *
-     * @param input the encoded entry strategies
-     * @param ops the operator used to transmute the encoded object
-     * @param <T> the type of the encoded object
+     * @param oldEntries the original entries within the registry
      */
-    private <T> void addEntryStrategies(final T input, final DynamicOps<T> ops) {
-        this.missingEntryManager = this.missingEntryManager.merge(input, ops);
+    private void handleMissingEntries(final Stream<ResourceLocation> oldEntries) {
+        final List<ResourceLocation> defaulted = new ArrayList<>();
+        oldEntries.filter(id -> !this.containsBuildingKey(id) && !this.aliases.containsKey(id) && !this.dummies.contains(id))
+                .forEach(id -> {
+                    @Nullable final MissingEntryStrategy strategy = this.missingEntryManager.find(id);
+                    if (strategy != null) strategy.handle(id, this);
+                    else {
+                        defaulted.add(id);
+                        MissingEntryManager.DEFAULT.handle(id, this);
+                    }
+                });
+        if (!defaulted.isEmpty())
+            DynamicRegistries.LOGGER.warn(MissingEntryManager.MISSING_ENTRY, "No missing entry strategy was present for {} entries in {}, defaulting to 'dummy': {}", defaulted.size(), this.getName(), defaulted);
     }
 
     /**
@@ -434,6 +2000,119 @@ public class DynamicRegistry<V extends IDynamicEntry<V>, C extends ICodecEntry<V
         CLEAR
     }
 
+    /**
+     * The operations recorded within a binary journal, written by their ordinal.
+     *
+     * @see #toBinaryJournalAsync(DynamicRegistryView, DynamicRegistryView, Executor)
+     */
+    private enum JournalOperation {
+        /**
+         * Removes the registry object, alias, or dummy entry of an identifier.
+         */
+        REMOVE,
+        /**
+         * Registers a registry object to an identifier.
+         */
+        REGISTER,
+        /**
+         * Aliases an identifier to another identifier.
+         */
+        ALIAS,
+        /**
+         * Marks an identifier as a dummy entry.
+         */
+        DUMMY
+    }
+
+    /**
+     * Storage modes that determine how the registry looks up the key of a
+     * registry object.
+     */
+    public enum StorageMode {
+        /**
+         * Registry objects are indexed by identity to their keys. This is the
+         * default behavior.
+         */
+        INDEXED,
+        /**
+         * Registry objects are looked up by the registry name they hold and
+         * then checked by identity. No reverse index is kept.
+         */
+        ENTRY_NAME
+    }
+
+    /**
+     * A registry object decoded from its encoded form alongside the hash of
+     * the content it was decoded from.
+     *
+     * @param <V> the super type of the dynamic registry entry
+     */
+    private static final class DecodedEntry<V> {
+
+        /**
+         * The hash of the encoded form of the registry object.
+         */
+        private final HashCode hash;
+        /**
+         * The decoded registry object.
+         */
+        private final V value;
+
+        /**
+         * Constructs a decoded entry.
+         *
+         * @param hash the hash of the encoded form of the registry object
+         * @param value the decoded registry object
+         */
+        private DecodedEntry(final HashCode hash, final V value) {
+            this.hash = hash;
+            this.value = value;
+        }
+    }
+
+    /**
+     * The state of a registry outside of its view which is restored whenever
+     * unpublished changes are discarded.
+     *
+     * @param <V> the super type of the dynamic registry entry
+     */
+    private static final class PublishedState<V> {
+
+        /**
+         * The missing entry manager of the registry.
+         */
+        private final MissingEntryManager missingEntryManager;
+        /**
+         * The default value of the registry.
+         */
+        @Nullable
+        private final V defaultValue;
+        /**
+         * The entries registered from their encoded form during the last reload.
+         */
+        private final Map<ResourceLocation, DecodedEntry<V>> decodedEntries;
+        /**
+         * If the entries registered from their encoded form changed during the last reload.
+         */
+        private final boolean changedOnReload;
+
+        /**
+         * Constructs the published state of a registry.
+         *
+         * @param missingEntryManager the missing entry manager of the registry
+         * @param defaultValue the default value of the registry
+         * @param decodedEntries the entries registered from their encoded form during the last reload
+         * @param changedOnReload if the entries registered from their encoded form changed during the last reload
+         */
+        private PublishedState(final MissingEntryManager missingEntryManager, @Nullable final V defaultValue,
+                               final Map<ResourceLocation, DecodedEntry<V>> decodedEntries, final boolean changedOnReload) {
+            this.missingEntryManager = missingEntryManager;
+            this.defaultValue = defaultValue;
+            this.decodedEntries = decodedEntries;
+            this.changedOnReload = changedOnReload;
+        }
+    }
+
     /**
      * Missing entry strategies to be handled whenever the reload strategy is {@link ReloadStrategy#CLEAR}
      * and an existing entry is no longer present.
@@ -472,13 +2151,30 @@ public class DynamicRegistry<V extends IDynamicEntry<V>, C extends ICodecEntry<V
     /**
      * Holds all missing entry strategies within a registry. Missing entry strategies are always replaced
      * regardless of the registry mode.
+     *
+     * <p>Strategies are declared by the identifier of the missing entry. The identifier may contain
+     * {@code *} wildcards which match any sequence of characters, such that {@code examplemod:*}
+     * applies to every entry within a namespace and {@code examplemod:old/*} applies to every entry
+     * under a path. The most specific strategy is used, as described by {@link Builder}. Between
+     * two wildcards of the same kind, the one declared last is used.
+     *
+     * @implNote
+     * The declared strategies are compiled once when the manager is built, so finding the strategy
+     * of a missing entry neither allocates nor logs.
      */
     public static class MissingEntryManager implements MissingEntryStrategy {
+
         /**
          * A marker that represents all logging information for missing entries.
          */
         private static final Marker MISSING_ENTRY = MarkerManager.getMarker("Missing Entry");
 
+        /**
+         * The wildcard character which matches any sequence of characters
+         * within a declared identifier.
+         */
+        private static final char WILDCARD = '*';
+
         /**
          * A map holding the missing entry strategy types:
          * <ul>
@@ -490,7 +2186,7 @@ public class DynamicRegistry<V extends IDynamicEntry<V>, C extends ICodecEntry<V
          */
         private static final BiMap<String, Codec<? extends MissingEntryStrategy>> MISSING_STRATEGIES = Util.make(() -> {
             final ImmutableBiMap.Builder<String, Codec<? extends MissingEntryStrategy>> strategies = ImmutableBiMap.builder();
-            strategies.put("remap", ResourceLocation.CODEC.fieldOf("remappedName").codec().xmap(remappedName -> () -> remappedName, RemapStrategy::getRemappedName));
+            strategies.put("remap", ResourceLocationInterner.CODEC.fieldOf("remappedName").codec().xmap(remappedName -> () -> remappedName, RemapStrategy::getRemappedName));
             strategies.put("dummy", Codec.unit(() -> (missingName, registry) -> {
                 DynamicRegistries.LOGGER.debug(MISSING_ENTRY, "Added {} as a dummy entry within {}", missingName, registry.getName());
                 registry.dummies.add(missingName);
@@ -509,9 +2205,10 @@ public class DynamicRegistry<V extends IDynamicEntry<V>, C extends ICodecEntry<V
         private static final Codec<MissingEntryStrategy> STRATEGY_CODEC = Codec.STRING.dispatch(MISSING_STRATEGIES.inverse()::get, MISSING_STRATEGIES::get);
 
         /**
-         * A codec representing the missing entry strategies within the registry.
+         * A codec representing the missing entry strategies within the registry, keyed
+         * by the identifier they apply to which may contain wildcards.
          */
-        private static final Codec<Map<ResourceLocation, MissingEntryStrategy>> CODEC = Codec.unboundedMap(ResourceLocation.CODEC, STRATEGY_CODEC);
+        private static final Codec<Map<String, MissingEntryStrategy>> CODEC = Codec.unboundedMap(Codec.STRING, STRATEGY_CODEC);
 
         /**
          * The default entry strategy if none is available.
@@ -519,17 +2216,87 @@ public class DynamicRegistry<V extends IDynamicEntry<V>, C extends ICodecEntry<V
         private static final MissingEntryStrategy DEFAULT = MISSING_STRATEGIES.get("dummy").parse(null, null).result().get();
 
         /**
-         * Strategies for entries in the registry.
+         * A manager without any declared strategies.
+         */
+        public static final MissingEntryManager EMPTY = new MissingEntryManager(Collections.emptyMap());
+
+        /**
+         * The declared strategies in the order they were declared.
+         */
+        private final Map<String, MissingEntryStrategy> declaredStrategies;
+        /**
+         * Strategies for exact entries in the registry.
          */
         private final Map<ResourceLocation, MissingEntryStrategy> strategies;
+        /**
+         * Strategies for every entry within a namespace.
+         */
+        private final Map<String, MissingEntryStrategy> namespaceStrategies;
+        /**
+         * The namespace and path patterns of wildcard strategies. Patterns within
+         * a concrete namespace come before those with a wildcard namespace, and
+         * within each group the strategy declared last comes first.
+         */
+        private final String[] namespacePatterns, pathPatterns;
+        /**
+         * The number of patterns within a concrete namespace at the start of
+         * {@link #namespacePatterns}.
+         */
+        private final int concretePatterns;
+        /**
+         * The strategies of {@link #namespacePatterns} and {@link #pathPatterns}.
+         */
+        private final MissingEntryStrategy[] patternStrategies;
 
         /**
-         * A constructor instance.
+         * A constructor instance. Compiles the declared strategies into their
+         * lookup tables.
          *
-         * @param strategies the entry strategies
+         * @param declaredStrategies the declared strategies in the order they were declared
          */
-        private MissingEntryManager(final Map<ResourceLocation, MissingEntryStrategy> strategies) {
+        private MissingEntryManager(final Map<String, MissingEntryStrategy> declaredStrategies) {
+            this.declaredStrategies = ImmutableMap.copyOf(declaredStrategies);
+            final Map<ResourceLocation, MissingEntryStrategy> strategies = new HashMap<>();
+            final Map<String, MissingEntryStrategy> namespaceStrategies = new HashMap<>();
+            final List<String> namespacePatterns = new ArrayList<>(), pathPatterns = new ArrayList<>();
+            final List<MissingEntryStrategy> patternStrategies = new ArrayList<>();
+            final int[] concretePatterns = {0};
+            this.declaredStrategies.forEach((declared, strategy) -> {
+                final int separator = declared.indexOf(':');
+                // A lone wildcard covers every namespace rather than only the default one
+                final String namespace = separator >= 0 ? declared.substring(0, separator) : declared.equals(String.valueOf(WILDCARD)) ? declared : "minecraft",
+                        path = declared.substring(separator + 1);
+                if (declared.indexOf(WILDCARD) < 0) {
+                    @Nullable final ResourceLocation key = ResourceLocation.tryParse(declared);
+                    if (key != null) strategies.put(ResourceLocationInterner.intern(key), strategy);
+                    else DynamicRegistries.LOGGER.error(MISSING_ENTRY, "{} is not a valid identifier for a missing entry strategy, skipping", declared);
+                } else if (path.equals(String.valueOf(WILDCARD)) && namespace.indexOf(WILDCARD) < 0) {
+                    namespaceStrategies.put(namespace, strategy);
+                } else {
+                    // Inserted at the front of its group so that later declarations are checked first
+                    final boolean concrete = namespace.indexOf(WILDCARD) < 0;
+                    final int index = concrete ? 0 : concretePatterns[0];
+                    if (concrete) concretePatterns[0]++;
+                    namespacePatterns.add(index, namespace);
+                    pathPatterns.add(index, path);
+                    patternStrategies.add(index, strategy);
+                }
+            });
+            this.concretePatterns = concretePatterns[0];
             this.strategies = ImmutableMap.copyOf(strategies);
+            this.namespaceStrategies = ImmutableMap.copyOf(namespaceStrategies);
+            this.namespacePatterns = namespacePatterns.toArray(new String[0]);
+            this.pathPatterns = pathPatterns.toArray(new String[0]);
+            this.patternStrategies = patternStrategies.toArray(new MissingEntryStrategy[0]);
+        }
+
+        /**
+         * Creates a new builder to declare the strategies of a manager.
+         *
+         * @return a new builder
+         */
+        public static Builder builder() {
+            return new Builder(Collections.emptyMap());
         }
 
         /**
@@ -541,36 +2308,148 @@ public class DynamicRegistry<V extends IDynamicEntry<V>, C extends ICodecEntry<V
          * @param ops the operator used to transmute the encoded object
          * @param <T> the type of the encoded object
          * @return a new {@link MissingEntryManager}
+         *
+         * @see Builder
          */
         public <T> MissingEntryManager merge(final T input, final DynamicOps<T> ops) {
-            return new MissingEntryManager(Util.make(() -> {
-                final HashMap<ResourceLocation, MissingEntryStrategy> strategies = new HashMap<>();
-                strategies.putAll(this.strategies);
-                strategies.putAll(createMap(input, ops));
-                return ImmutableMap.copyOf(strategies);
-            }));
+            return new Builder(this.declaredStrategies).add(input, ops).build();
+        }
+
+        /**
+         * Finds the most specific strategy declared for the missing entry.
+         *
+         * @param missingName the name of the missing entry
+         * @return the strategy of the missing entry, or {@code null} if none was declared
+         *
+         * @see Builder
+         */
+        @Nullable
+        MissingEntryStrategy find(final ResourceLocation missingName) {
+            @Nullable MissingEntryStrategy strategy = this.strategies.get(missingName);
+            if (strategy != null) return strategy;
+            if ((strategy = this.findPattern(missingName, 0, this.concretePatterns)) != null) return strategy;
+            if ((strategy = this.namespaceStrategies.get(missingName.getNamespace())) != null) return strategy;
+            return this.findPattern(missingName, this.concretePatterns, this.patternStrategies.length);
         }
 
+        /**
+         * Finds the first wildcard strategy within a range of the patterns which
+         * matches the missing entry.
+         *
+         * @param missingName the name of the missing entry
+         * @param from the index of the first pattern to check, inclusive
+         * @param to the index of the last pattern to check, exclusive
+         * @return the strategy of the missing entry, or {@code null} if no pattern matches
+         */
+        @Nullable
+        private MissingEntryStrategy findPattern(final ResourceLocation missingName, final int from, final int to) {
+            for (int i = from; i < to; i++) {
+                if (matches(this.namespacePatterns[i], missingName.getNamespace()) && matches(this.pathPatterns[i], missingName.getPath()))
+                    return this.patternStrategies[i];
+            }
+            return null;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @implSpec
+         * If no strategy was declared for the missing entry, it will be handled
+         * as a dummy entry.
+         */
         @Override
         public void handle(ResourceLocation missingName, DynamicRegistry<?, ?> registry) {
-            this.strategies.getOrDefault(missingName, Util.make(() -> {
-                DynamicRegistries.LOGGER.warn(MISSING_ENTRY, "No missing entry strategy was present for {} in {}, defaulting to 'dummy'", missingName, registry.getName());
-                return DEFAULT;
-            })).handle(missingName, registry);
+            @Nullable final MissingEntryStrategy strategy = this.find(missingName);
+            (strategy != null ? strategy : DEFAULT).handle(missingName, registry);
         }
 
         /**
-         * Creates the entry strategies.
+         * Checks whether the value matches the pattern, where every {@link #WILDCARD}
+         * within the pattern matches any sequence of characters.
          *
-         * @param input the encoded form of the entry strategies
-         * @param ops the operator used to transmute the encoded object
-         * @param <T> the type of the encoded object
-         * @return the entry strategies
+         * @param pattern the pattern to match against
+         * @param value the value to check
+         * @return {@code true} if the value matches the pattern, otherwise {@code false}
          */
-        private static <T> Map<ResourceLocation, MissingEntryStrategy> createMap(final T input, final DynamicOps<T> ops) {
-            return CODEC.parse(ops, input).resultOrPartial(error ->
-                    DynamicRegistries.LOGGER.error(MISSING_ENTRY, "Missing entries have failed to deserialize properly: {}", error)
-            ).orElse(Collections.emptyMap());
+        private static boolean matches(final String pattern, final String value) {
+            int p = 0, v = 0, wildcard = -1, wildcardMatch = 0;
+            while (v < value.length()) {
+                if (p < pattern.length() && pattern.charAt(p) == WILDCARD) {
+                    // Match nothing at first, backtracking to consume more characters if needed
+                    wildcard = p++;
+                    wildcardMatch = v;
+                } else if (p < pattern.length() && pattern.charAt(p) == value.charAt(v)) {
+                    p++;
+                    v++;
+                } else if (wildcard >= 0) {
+                    p = wildcard + 1;
+                    v = ++wildcardMatch;
+                } else return false;
+            }
+            while (p < pattern.length() && pattern.charAt(p) == WILDCARD) p++;
+            return p == pattern.length();
+        }
+
+        /**
+         * A builder which collects the declared strategies of a manager such
+         * that they are only compiled once.
+         *
+         * <p>When multiple declared strategies apply to a missing entry, the most
+         * specific one is used, checked in the following order:
+         * <ol>
+         *     <li>An exact identifier, such as {@code examplemod:old_entry}.</li>
+         *     <li>A wildcard within the path of a concrete namespace, such as {@code examplemod:old/*}.</li>
+         *     <li>A wildcard covering an entire concrete namespace, such as {@code examplemod:*}.</li>
+         *     <li>A wildcard within the namespace, such as {@code *:old/*} or {@code *:*}.</li>
+         * </ol>
+         * A lone {@code *} is the same as {@code *:*}, while any other declaration
+         * without a namespace is within the {@code minecraft} namespace.
+         * Between two wildcards within the same step, the one declared last is used.
+         */
+        public static final class Builder {
+
+            /**
+             * The declared strategies in the order they were declared.
+             */
+            private final Map<String, MissingEntryStrategy> declaredStrategies;
+
+            /**
+             * A constructor instance.
+             *
+             * @param declaredStrategies the previously declared strategies
+             */
+            private Builder(final Map<String, MissingEntryStrategy> declaredStrategies) {
+                this.declaredStrategies = new LinkedHashMap<>(declaredStrategies);
+            }
+
+            /**
+             * Adds the entry strategies to the manager. Any strategies that are already
+             * declared will be replaced by the new entry.
+             *
+             * @param input the encoded form of the entry strategies
+             * @param ops the operator used to transmute the encoded object
+             * @param <T> the type of the encoded object
+             * @return the builder instance
+             */
+            public <T> Builder add(final T input, final DynamicOps<T> ops) {
+                CODEC.parse(ops, input).resultOrPartial(error ->
+                        DynamicRegistries.LOGGER.error(MISSING_ENTRY, "Missing entries have failed to deserialize properly: {}", error)
+                ).ifPresent(strategies -> strategies.forEach((declared, strategy) -> {
+                    // Redeclared strategies are moved to the end so they take precedence
+                    this.declaredStrategies.remove(declared);
+                    this.declaredStrategies.put(declared, strategy);
+                }));
+                return this;
+            }
+
+            /**
+             * Compiles the declared strategies into a manager.
+             *
+             * @return a new {@link MissingEntryManager}
+             */
+            public MissingEntryManager build() {
+                return this.declaredStrategies.isEmpty() ? EMPTY : new MissingEntryManager(this.declaredStrategies);
+            }
         }
     }
 }
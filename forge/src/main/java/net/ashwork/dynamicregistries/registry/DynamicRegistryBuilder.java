@@ -49,14 +49,30 @@ public class DynamicRegistryBuilder<V extends IDynamicEntry<V>, C extends ICodec
      * {@code true} if the registry should be synced to the client or saved to disk respectively.
      */
     private boolean sync, save;
+    /**
+     * A flag that determines whether entries are decoded in parallel.
+     */
+    private boolean parallelDecode;
+    /**
+     * A flag that determines whether unchanged entries are reused across reloads.
+     */
+    private boolean reuseEntries;
     /**
      * The prior names of the dynamic registry.
      */
     private final Set<ResourceLocation> legacyNames;
+    /**
+     * The names of the registries whose entries this registry references.
+     */
+    private final Set<ResourceLocation> dependencies;
     /**
      * The reload strategy of the dynamic registry.
      */
     private DynamicRegistry.ReloadStrategy reloadStrategy = DynamicRegistry.ReloadStrategy.CLEAR;
+    /**
+     * The storage mode of the dynamic registry.
+     */
+    private DynamicRegistry.StorageMode storageMode = DynamicRegistry.StorageMode.INDEXED;
 
     /**
      * Constructs an instance of the builder.
@@ -76,6 +92,7 @@ public class DynamicRegistryBuilder<V extends IDynamicEntry<V>, C extends ICodec
         this.sync = true;
         this.save = true;
         this.legacyNames = new HashSet<>();
+        this.dependencies = new HashSet<>();
     }
 
     /**
@@ -120,6 +137,20 @@ public class DynamicRegistryBuilder<V extends IDynamicEntry<V>, C extends ICodec
         return this;
     }
 
+    /**
+     * Adds a registry whose entries are referenced by the entries of this dynamic
+     * registry. The dependency will always be reloaded and locked before this
+     * registry, while registries that do not depend on each other are reloaded
+     * in parallel.
+     *
+     * @param name the name of the registry this dynamic registry depends on
+     * @return the builder instance
+     */
+    public DynamicRegistryBuilder<V, C> dependsOn(final ResourceLocation name) {
+        this.dependencies.add(Objects.requireNonNull(name, "A dependency should not be null"));
+        return this;
+    }
+
     /**
      * Instead of clearing the registry each time the entries are reloaded, it will
      * instead append or replace the already existing entries.
@@ -131,6 +162,45 @@ public class DynamicRegistryBuilder<V extends IDynamicEntry<V>, C extends ICodec
         return this;
     }
 
+    /**
+     * Sets a flag that decodes the entries of the dynamic registry in parallel
+     * when reloaded. The entries are still registered in order of their identifier.
+     * The entry codecs must be safe to use from multiple threads.
+     *
+     * @return the builder instance
+     */
+    public DynamicRegistryBuilder<V, C> decodeInParallel() {
+        this.parallelDecode = true;
+        return this;
+    }
+
+    /**
+     * Sets a flag that keeps the registry objects of entries whose content has
+     * not changed since the last reload rather than decoding them again. Every
+     * registry whose entries are referenced by this registry, including itself,
+     * must be declared with {@link #dependsOn(ResourceLocation)}, as entries are
+     * only decoded again when a declared dependency changes.
+     *
+     * @return the builder instance
+     */
+    public DynamicRegistryBuilder<V, C> reuseUnchangedEntries() {
+        this.reuseEntries = true;
+        return this;
+    }
+
+    /**
+     * Instead of keeping a reverse index from registry objects to their keys,
+     * the registry will look up keys using the registry name held by the
+     * registry object itself. This drops the reverse index entirely at the
+     * cost of an additional key lookup when getting the key of an object.
+     *
+     * @return the builder instance
+     */
+    public DynamicRegistryBuilder<V, C> lookupKeysByEntryName() {
+        this.storageMode = DynamicRegistry.StorageMode.ENTRY_NAME;
+        return this;
+    }
+
     /**
      * Returns the name of the dynamic registry.
      *
@@ -187,6 +257,24 @@ public class DynamicRegistryBuilder<V extends IDynamicEntry<V>, C extends ICodec
         return this.save;
     }
 
+    /**
+     * Returns {@code true} if the entries of the dynamic registry should be decoded in parallel.
+     *
+     * @return {@code true} if the entries of the dynamic registry should be decoded in parallel
+     */
+    public boolean shouldDecodeInParallel() {
+        return this.parallelDecode;
+    }
+
+    /**
+     * Returns {@code true} if unchanged entries of the dynamic registry should be reused across reloads.
+     *
+     * @return {@code true} if unchanged entries of the dynamic registry should be reused across reloads
+     */
+    public boolean shouldReuseUnchangedEntries() {
+        return this.reuseEntries;
+    }
+
     /**
      * Gets the legacy names of the dynamic registry.
      *
@@ -196,6 +284,15 @@ public class DynamicRegistryBuilder<V extends IDynamicEntry<V>, C extends ICodec
         return this.legacyNames;
     }
 
+    /**
+     * Gets the names of the registries this dynamic registry depends on.
+     *
+     * @return the names of the registries this dynamic registry depends on
+     */
+    public Set<ResourceLocation> getDependencies() {
+        return this.dependencies;
+    }
+
     /**
      * Returns the reload strategy of the registry.
      *
@@ -205,6 +302,15 @@ public class DynamicRegistryBuilder<V extends IDynamicEntry<V>, C extends ICodec
         return this.reloadStrategy;
     }
 
+    /**
+     * Returns the storage mode of the registry.
+     *
+     * @return the storage mode of the registry
+     */
+    public DynamicRegistry.StorageMode getStorageMode() {
+        return this.storageMode;
+    }
+
     /**
      * Creates and returns a new dynamic registry within the static stage.
      *
@@ -0,0 +1,253 @@
+/*
+ * Dynamic Registries
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.dynamicregistries.registry;
+
+import net.ashwork.dynamicregistries.DynamicRegistryManager;
+import net.ashwork.dynamicregistries.entry.IDynamicEntry;
+import net.minecraft.util.ResourceLocation;
+
+import javax.annotation.Nullable;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A handle to a registry object within a dynamic registry. As registry objects
+ * can change on every reload, the handle resolves the object by its key and
+ * caches it alongside the {@link IDynamicRegistry#getGeneration() generation}
+ * of the registry. The object is only resolved again once the generation
+ * changes, so repeated access only costs a comparison. This is heavily based
+ * off of {@link net.minecraftforge.fml.RegistryObject}.
+ *
+ * @param <V> the super type of the dynamic registry entry
+ */
+public final class DynamicRegistryObject<V extends IDynamicEntry<V>> implements Supplier<V> {
+
+    /**
+     * The name of the registry object.
+     */
+    private final ResourceLocation name;
+    /**
+     * The name of the registry the object is resolved from.
+     */
+    private final ResourceLocation registryName;
+    /**
+     * Gets the registry the object is resolved from, or {@code null} if it
+     * does not exist yet.
+     */
+    private final Supplier<IDynamicRegistry<V, ?>> registryGetter;
+
+    /**
+     * The registry the object is resolved from once present.
+     */
+    @Nullable
+    private volatile IDynamicRegistry<V, ?> registry;
+    /**
+     * The last resolved registry object and the generation it was resolved in.
+     */
+    @Nullable
+    private volatile Resolved<V> resolved;
+
+    /**
+     * Constructs a handle.
+     *
+     * @param name the name of the registry object
+     * @param registryName the name of the registry the object is resolved from
+     * @param registryGetter gets the registry the object is resolved from
+     */
+    private DynamicRegistryObject(final ResourceLocation name, final ResourceLocation registryName, final Supplier<IDynamicRegistry<V, ?>> registryGetter) {
+        this.name = Objects.requireNonNull(name, "The name of the registry object cannot be null");
+        this.registryName = registryName;
+        this.registryGetter = registryGetter;
+    }
+
+    /**
+     * Creates a handle to a registry object within the specified registry.
+     *
+     * @param name the name of the registry object
+     * @param registry the registry the object is resolved from
+     * @param <V> the super type of the dynamic registry entry
+     * @return a handle to the registry object
+     */
+    public static <V extends IDynamicEntry<V>> DynamicRegistryObject<V> of(final ResourceLocation name, final IDynamicRegistry<V, ?> registry) {
+        Objects.requireNonNull(registry, "The registry cannot be null");
+        return new DynamicRegistryObject<>(name, registry.getName(), () -> registry);
+    }
+
+    /**
+     * Creates a handle to a registry object within the {@link DynamicRegistryManager#DYNAMIC}
+     * registry of the specified name. The registry does not need to be present yet.
+     *
+     * @param name the name of the registry object
+     * @param registryName the name of the registry the object is resolved from
+     * @param <V> the super type of the dynamic registry entry
+     * @return a handle to the registry object
+     */
+    public static <V extends IDynamicEntry<V>> DynamicRegistryObject<V> of(final ResourceLocation name, final ResourceLocation registryName) {
+        Objects.requireNonNull(registryName, "The name of the registry cannot be null");
+        return new DynamicRegistryObject<>(name, registryName, () -> DynamicRegistryObject.<V>dynamicRegistry(registryName));
+    }
+
+    /**
+     * Gets the {@link DynamicRegistryManager#DYNAMIC} registry of the specified name.
+     *
+     * @param registryName the name of the registry
+     * @param <V> the super type of the dynamic registry entry
+     * @return the registry, or {@code null} if it does not exist
+     */
+    @Nullable
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <V extends IDynamicEntry<V>> IDynamicRegistry<V, ?> dynamicRegistry(final ResourceLocation registryName) {
+        return (IDynamicRegistry<V, ?>) (IDynamicRegistry) DynamicRegistryManager.DYNAMIC.getRegistry(registryName);
+    }
+
+    /**
+     * Binds the handle to the registry object within the specified view, such that
+     * it does not need to be resolved again once the view is published.
+     *
+     * @param registry the registry the view belongs to
+     * @param view the view to resolve the registry object within
+     */
+    void bind(final IDynamicRegistry<V, ?> registry, final DynamicRegistryView<V> view) {
+        this.registry = registry;
+        this.resolved = new Resolved<>(view.getGeneration(), view.getValue(this.name));
+    }
+
+    /**
+     * Returns the name of the registry object.
+     *
+     * @return the name of the registry object
+     */
+    public ResourceLocation getName() {
+        return this.name;
+    }
+
+    /**
+     * Returns the registry object, resolving it again if the registry
+     * has changed since it was last resolved.
+     *
+     * @return the registry object
+     * @throws NullPointerException if the registry object is not present
+     */
+    @Override
+    public V get() {
+        return Objects.requireNonNull(this.orElse(null), () -> "Registry object not present: " + this.name);
+    }
+
+    /**
+     * Returns the registry object if present, otherwise {@code other}.
+     *
+     * @param other the object to return if the registry object is not present
+     * @return the registry object or {@code other}
+     */
+    @Nullable
+    public V orElse(@Nullable final V other) {
+        @Nullable IDynamicRegistry<V, ?> registry = this.registry;
+        if (registry == null) {
+            registry = this.registryGetter.get();
+            if (registry == null) return other;
+            this.registry = registry;
+        }
+
+        // The generation is read before the value, so a value from a newer generation is resolved again later at worst
+        final int generation = registry.getGeneration();
+        @Nullable Resolved<V> resolved = this.resolved;
+        if (resolved == null || resolved.generation != generation) {
+            resolved = new Resolved<>(generation, registry.getValue(this.name));
+            this.resolved = resolved;
+        }
+        return resolved.value != null ? resolved.value : other;
+    }
+
+    /**
+     * Returns whether the registry object is present.
+     *
+     * @return {@code true} if the registry object is present, otherwise {@code false}
+     */
+    public boolean isPresent() {
+        return this.orElse(null) != null;
+    }
+
+    /**
+     * Performs the action on the registry object if present.
+     *
+     * @param action the action to perform
+     */
+    public void ifPresent(final Consumer<? super V> action) {
+        @Nullable final V value = this.orElse(null);
+        if (value != null) action.accept(value);
+    }
+
+    /**
+     * Returns an optional containing the registry object if present.
+     *
+     * @return an optional containing the registry object
+     */
+    public Optional<V> getOptional() {
+        return Optional.ofNullable(this.orElse(null));
+    }
+
+    /**
+     * Returns the name of the registry the object is resolved from.
+     *
+     * @return the name of the registry the object is resolved from
+     */
+    public ResourceLocation getRegistryName() {
+        return this.registryName;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof DynamicRegistryObject)) return false;
+        final DynamicRegistryObject<?> other = (DynamicRegistryObject<?>) obj;
+        return this.registryName.equals(other.registryName) && this.name.equals(other.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * this.registryName.hashCode() + this.name.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "DynamicRegistryObject{" + this.registryName + " / " + this.name + "}";
+    }
+
+    /**
+     * A registry object resolved within some generation of the registry.
+     *
+     * @param <V> the super type of the dynamic registry entry
+     */
+    private static final class Resolved<V> {
+
+        /**
+         * The generation the registry object was resolved in.
+         */
+        private final int generation;
+        /**
+         * The resolved registry object, or {@code null} if not present.
+         */
+        @Nullable
+        private final V value;
+
+        /**
+         * Constructs a resolved registry object.
+         *
+         * @param generation the generation the registry object was resolved in
+         * @param value the resolved registry object
+         */
+        private Resolved(final int generation, @Nullable final V value) {
+            this.generation = generation;
+            this.value = value;
+        }
+    }
+}
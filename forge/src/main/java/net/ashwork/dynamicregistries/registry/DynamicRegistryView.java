@@ -0,0 +1,686 @@
+/*
+ * Dynamic Registries
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.dynamicregistries.registry;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import net.ashwork.dynamicregistries.entry.IDynamicEntry;
+import net.minecraft.util.ResourceLocation;
+
+import javax.annotation.Nullable;
+import java.util.*;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+/**
+ * An immutable generation of a {@link DynamicRegistry}. A new view is built
+ * and published every time the registry is locked, so a reader holding onto
+ * a view will always see a consistent state of the registry regardless of
+ * any modifications being made.
+ *
+ * @implNote
+ * The view is stored in a compact frozen form. Registry objects and their
+ * identifiers are held in arrays indexed by their integer identifier. Keys
+ * and resolved aliases are looked up through an open addressing table of
+ * those integer identifiers, while registry objects are looked up through
+ * a second table hashed by identity or by the registry name they hold
+ * depending on the {@link DynamicRegistry.StorageMode}. The integer identifiers
+ * are additionally sorted by namespace and by path such that all entries within
+ * a namespace or under a path prefix can be found through a binary search.
+ *
+ * @param <V> the super type of the dynamic registry entry
+ */
+public final class DynamicRegistryView<V extends IDynamicEntry<V>> {
+
+    /**
+     * A suffix that sorts after any valid identifier component, used to find
+     * the end of a prefix range.
+     */
+    private static final String RANGE_END = "\uffff";
+
+    /**
+     * The generation of the view. Increases by one for every view published
+     * by the registry.
+     */
+    private final int generation;
+    /**
+     * The identifiers of the registry objects indexed by their integer identifier.
+     */
+    private final ResourceLocation[] keysById;
+    /**
+     * The registry objects indexed by their integer identifier.
+     */
+    private final Object[] valuesById;
+    /**
+     * The generation each integer identifier was assigned to its current key
+     * within, indexed by their integer identifier.
+     */
+    private final int[] idGenerations;
+    /**
+     * The number of registry objects within the view.
+     */
+    private final int size;
+    /**
+     * An open addressing table of identifiers and resolved aliases. Each
+     * occupied slot holds the key used for the lookup.
+     */
+    private final ResourceLocation[] keyTable;
+    /**
+     * The integer identifier the key in the same slot of {@link #keyTable}
+     * resolves to.
+     */
+    private final int[] keyTableIds;
+    /**
+     * An open addressing table of registry objects hashed by identity to their
+     * integer identifier offset by one. An empty slot holds {@code 0}. Only
+     * present if the storage mode is {@link DynamicRegistry.StorageMode#INDEXED}.
+     */
+    @Nullable
+    private final int[] idTable;
+    /**
+     * The occupied integer identifiers sorted by namespace and then by path.
+     */
+    private final int[] idsByNamespace;
+    /**
+     * The occupied integer identifiers sorted by path and then by namespace.
+     */
+    private final int[] idsByPath;
+    /**
+     * The entry aliases within the registry.
+     */
+    private final ImmutableMap<ResourceLocation, ResourceLocation> aliases;
+    /**
+     * Registry names that are stored with no mapped values.
+     */
+    private final ImmutableSet<ResourceLocation> dummies;
+    /**
+     * The default value of the registry.
+     */
+    @Nullable
+    private final V defaultValue;
+    /**
+     * A set view of the identifiers within the view.
+     */
+    private final Set<ResourceLocation> keySet;
+    /**
+     * A set view of the registry objects within the view.
+     */
+    private final Set<V> values;
+    /**
+     * A set view of the entries within the view.
+     */
+    private final Set<Map.Entry<ResourceLocation, V>> entrySet;
+    /**
+     * A map view of the entries within the view.
+     */
+    private final Map<ResourceLocation, V> entries;
+
+    /**
+     * Constructs an empty view.
+     *
+     * @param storageMode the storage mode of the registry
+     */
+    DynamicRegistryView(final DynamicRegistry.StorageMode storageMode) {
+        this(0, storageMode, new ResourceLocation[0], new Object[0], new int[0], ImmutableMap.of(), ImmutableMap.of(), ImmutableSet.of(), null);
+    }
+
+    /**
+     * Constructs a view of the registry.
+     *
+     * @param generation the generation of the view
+     * @param storageMode the storage mode of the registry
+     * @param keysById the identifiers indexed by their integer identifier
+     * @param valuesById the registry objects indexed by their integer identifier
+     * @param idGenerations the generation each integer identifier was assigned within
+     * @param resolvedAliases the entry aliases mapped to the identifier they resolve to
+     * @param aliases the entry aliases within the registry
+     * @param dummies the dummy entries within the registry
+     * @param defaultValue the default value of the registry
+     */
+    DynamicRegistryView(final int generation, final DynamicRegistry.StorageMode storageMode, final ResourceLocation[] keysById, final Object[] valuesById, final int[] idGenerations, final Map<ResourceLocation, ResourceLocation> resolvedAliases,
+                        final ImmutableMap<ResourceLocation, ResourceLocation> aliases, final ImmutableSet<ResourceLocation> dummies, @Nullable final V defaultValue) {
+        this.generation = generation;
+        this.keysById = keysById;
+        this.valuesById = valuesById;
+        this.idGenerations = idGenerations;
+        this.aliases = aliases;
+        this.dummies = dummies;
+        this.defaultValue = defaultValue;
+
+        int size = 0;
+        for (Object value : valuesById) if (value != null) size++;
+        this.size = size;
+
+        this.keyTable = new ResourceLocation[tableCapacity(size + resolvedAliases.size())];
+        this.keyTableIds = new int[this.keyTable.length];
+        this.idTable = storageMode == DynamicRegistry.StorageMode.INDEXED ? new int[tableCapacity(size)] : null;
+        final int keyMask = this.keyTable.length - 1;
+        for (int id = 0; id < valuesById.length; id++) {
+            if (valuesById[id] == null) continue;
+            int slot = keyHash(keysById[id]) & keyMask;
+            while (this.keyTable[slot] != null) slot = (slot + 1) & keyMask;
+            this.keyTable[slot] = keysById[id];
+            this.keyTableIds[slot] = id;
+
+            if (this.idTable != null) {
+                final int idMask = this.idTable.length - 1;
+                slot = identityHash(valuesById[id]) & idMask;
+                while (this.idTable[slot] != 0) slot = (slot + 1) & idMask;
+                this.idTable[slot] = id + 1;
+            }
+        }
+        resolvedAliases.forEach((alias, target) -> {
+            final int id = this.lookup(target);
+            if (id == -1 || this.lookup(alias) != -1) return;
+            int slot = keyHash(alias) & keyMask;
+            while (this.keyTable[slot] != null) slot = (slot + 1) & keyMask;
+            this.keyTable[slot] = alias;
+            this.keyTableIds[slot] = id;
+        });
+
+        this.idsByNamespace = IntStream.range(0, valuesById.length).filter(id -> valuesById[id] != null).boxed()
+                .sorted(Comparator.comparing((Integer id) -> keysById[id].getNamespace()).thenComparing(id -> keysById[id].getPath()))
+                .mapToInt(Integer::intValue).toArray();
+        this.idsByPath = IntStream.range(0, valuesById.length).filter(id -> valuesById[id] != null).boxed()
+                .sorted(Comparator.comparing((Integer id) -> keysById[id].getPath()).thenComparing(id -> keysById[id].getNamespace()))
+                .mapToInt(Integer::intValue).toArray();
+
+        this.keySet = new FrozenSet<>(id -> this.keysById[id], obj -> obj instanceof ResourceLocation && this.idOf((ResourceLocation) obj) != -1);
+        this.values = new FrozenSet<>(this::byId, this::containsObject);
+        this.entrySet = new FrozenSet<>(id -> Maps.immutableEntry(this.keysById[id], this.byId(id)), this::containsEntry);
+        this.entries = new AbstractMap<ResourceLocation, V>() {
+
+            @Override
+            public Set<Entry<ResourceLocation, V>> entrySet() {
+                return DynamicRegistryView.this.entrySet;
+            }
+
+            @Override
+            public boolean containsKey(final Object key) {
+                return DynamicRegistryView.this.keySet.contains(key);
+            }
+
+            @Nullable
+            @Override
+            public V get(final Object key) {
+                return key instanceof ResourceLocation ? DynamicRegistryView.this.byId(DynamicRegistryView.this.idOf((ResourceLocation) key)) : null;
+            }
+        };
+    }
+
+    /**
+     * Returns the generation of the view.
+     *
+     * @return the generation of the view
+     */
+    public int getGeneration() {
+        return this.generation;
+    }
+
+    /**
+     * Checks whether the view has a registry object registered with
+     * the given {@code key} or an alias resolving to one.
+     *
+     * @param key the identifier of the registry object to be checked
+     * @return {@code true} if the view contains a registry object
+     *         with the specified key, otherwise {@code false}
+     */
+    public boolean containsKey(final ResourceLocation key) {
+        return this.lookup(key) != -1;
+    }
+
+    /**
+     * Checks whether the view has the given registry object.
+     *
+     * @param value the registry object to be checked
+     * @return {@code true} if the view contains the registry object,
+     *         otherwise {@code false}
+     */
+    public boolean containsValue(final V value) {
+        return this.getId(value) != -1;
+    }
+
+    /**
+     * Returns {@code true} if the view has no registry objects, otherwise
+     * {@code false}.
+     *
+     * @return {@code true} if the view has no registry objects, otherwise
+     *         {@code false}.
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Gets the registry object associated with the {@code key} if present.
+     * If none exists, then the default value is returned.
+     *
+     * @param key the identifier of a registry object
+     * @return the associated registry object, the default value, or {@code null}
+     */
+    @Nullable
+    public V getValue(final ResourceLocation key) {
+        final int id = this.lookup(key);
+        return id != -1 ? this.byId(id) : this.defaultValue;
+    }
+
+    /**
+     * Gets the identifier associated with the {@code value} if present. If
+     * none exists, then {@code null} is returned.
+     *
+     * @param value the registry object
+     * @return the associated identifier or {@code null}
+     */
+    @Nullable
+    public ResourceLocation getKey(final V value) {
+        final int id = this.getId(value);
+        return id != -1 ? this.keysById[id] : null;
+    }
+
+    /**
+     * Gets the integer identifier associated with the {@code value} if present.
+     * If none exists, then {@code -1} is returned.
+     *
+     * @param value the registry object
+     * @return the associated integer identifier or {@code -1}
+     */
+    public int getId(final V value) {
+        if (this.idTable == null) {
+            final ResourceLocation name = value.getRegistryName();
+            if (name == null) return -1;
+            final int id = this.idOf(name);
+            return id != -1 && this.valuesById[id] == value ? id : -1;
+        }
+        final int mask = this.idTable.length - 1;
+        for (int slot = identityHash(value) & mask; ; slot = (slot + 1) & mask) {
+            final int id = this.idTable[slot] - 1;
+            if (id < 0) return -1;
+            if (this.valuesById[id] == value) return id;
+        }
+    }
+
+    /**
+     * Gets the registry object associated with the integer {@code id} if present.
+     * If none exists, then {@code null} is returned.
+     *
+     * @param id the integer identifier of a registry object
+     * @return the associated registry object or {@code null}
+     */
+    @Nullable
+    @SuppressWarnings("unchecked") // Only registry objects are stored within the array
+    public V byId(final int id) {
+        return id >= 0 && id < this.valuesById.length ? (V) this.valuesById[id] : null;
+    }
+
+    /**
+     * Gets the generation the integer {@code id} was assigned to its current key
+     * within. If the integer identifier is not assigned, then {@code -1} is returned.
+     *
+     * @param id the integer identifier of a registry object
+     * @return the generation the integer identifier was assigned within or {@code -1}
+     */
+    public int getIdGeneration(final int id) {
+        return id >= 0 && id < this.valuesById.length && this.valuesById[id] != null ? this.idGenerations[id] : -1;
+    }
+
+    /**
+     * Gets the integer identifier registered directly under the {@code key},
+     * ignoring any aliases. If none exists, then {@code -1} is returned.
+     *
+     * @param key the identifier of a registry object
+     * @return the associated integer identifier or {@code -1}
+     */
+    public int idOf(final ResourceLocation key) {
+        final int id = this.lookup(key);
+        return id != -1 && this.keysById[id].equals(key) ? id : -1;
+    }
+
+    /**
+     * Returns the set of all identifiers within the view.
+     *
+     * @return the set of all identifiers
+     */
+    public Set<ResourceLocation> keySet() {
+        return this.keySet;
+    }
+
+    /**
+     * Returns the set of all registry objects within the view.
+     *
+     * @return the set of all registry objects
+     */
+    public Set<V> values() {
+        return this.values;
+    }
+
+    /**
+     * Returns the set of all entries within the view.
+     *
+     * @return the set of all entries
+     */
+    public Set<Map.Entry<ResourceLocation, V>> entrySet() {
+        return this.entrySet;
+    }
+
+    /**
+     * Returns the entries within the view.
+     *
+     * @return the entries within the view
+     */
+    public Map<ResourceLocation, V> entries() {
+        return this.entries;
+    }
+
+    /**
+     * Returns the entries within the view whose identifier has the given
+     * {@code namespace}, sorted by their path.
+     *
+     * @param namespace the namespace of the identifiers
+     * @return the entries within the namespace
+     */
+    public Map<ResourceLocation, V> namespaceEntries(final String namespace) {
+        return this.pathEntries(namespace, "");
+    }
+
+    /**
+     * Returns the entries within the view whose identifier has the given
+     * {@code namespace} and a path starting with {@code pathPrefix}, sorted
+     * by their path.
+     *
+     * @param namespace the namespace of the identifiers
+     * @param pathPrefix the prefix of the identifier paths
+     * @return the entries within the namespace under the path prefix
+     */
+    public Map<ResourceLocation, V> pathEntries(final String namespace, final String pathPrefix) {
+        return new RangeMap(this.idsByNamespace, this.lowerBound(this.idsByNamespace, true, namespace, pathPrefix),
+                this.lowerBound(this.idsByNamespace, true, namespace, pathPrefix + RANGE_END),
+                key -> key.getNamespace().equals(namespace) && key.getPath().startsWith(pathPrefix));
+    }
+
+    /**
+     * Returns the entries within the view whose identifier has a path starting
+     * with {@code pathPrefix} in any namespace, sorted by their path and then
+     * by their namespace.
+     *
+     * @param pathPrefix the prefix of the identifier paths
+     * @return the entries under the path prefix
+     */
+    public Map<ResourceLocation, V> pathEntries(final String pathPrefix) {
+        return new RangeMap(this.idsByPath, this.lowerBound(this.idsByPath, false, pathPrefix, ""),
+                this.lowerBound(this.idsByPath, false, pathPrefix + RANGE_END, ""),
+                key -> key.getPath().startsWith(pathPrefix));
+    }
+
+    /**
+     * Returns the unresolved entry aliases within the view.
+     *
+     * @return the unresolved entry aliases within the view
+     */
+    public Map<ResourceLocation, ResourceLocation> aliases() {
+        return this.aliases;
+    }
+
+    /**
+     * Returns the registry names that are stored with no mapped values.
+     *
+     * @return the registry names that are stored with no mapped values
+     */
+    public Set<ResourceLocation> dummies() {
+        return this.dummies;
+    }
+
+    /**
+     * Looks up the integer identifier a key or resolved alias maps to.
+     *
+     * @param key the identifier or alias to look up
+     * @return the associated integer identifier or {@code -1}
+     */
+    private int lookup(final ResourceLocation key) {
+        final int mask = this.keyTable.length - 1;
+        for (int slot = keyHash(key) & mask; ; slot = (slot + 1) & mask) {
+            final ResourceLocation slotKey = this.keyTable[slot];
+            if (slotKey == null) return -1;
+            if (slotKey == key || slotKey.equals(key)) return this.keyTableIds[slot];
+        }
+    }
+
+    /**
+     * Finds the first position within the sorted integer identifiers whose key
+     * is not less than the specified components.
+     *
+     * @param sortedIds the sorted integer identifiers
+     * @param byNamespace {@code true} if the identifiers are sorted by namespace first,
+     *                    {@code false} if they are sorted by path first
+     * @param first the component the identifiers are sorted by first
+     * @param second the component the identifiers are sorted by second
+     * @return the first position whose key is not less than the components
+     */
+    private int lowerBound(final int[] sortedIds, final boolean byNamespace, final String first, final String second) {
+        int low = 0, high = sortedIds.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            final ResourceLocation key = this.keysById[sortedIds[mid]];
+            int cmp = (byNamespace ? key.getNamespace() : key.getPath()).compareTo(first);
+            if (cmp == 0) cmp = (byNamespace ? key.getPath() : key.getNamespace()).compareTo(second);
+            if (cmp < 0) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    /**
+     * Checks whether the object is a registry object within the view.
+     *
+     * @param obj the object to check
+     * @return {@code true} if the object is a registry object within the view
+     */
+    @SuppressWarnings("unchecked") // Only registry objects are stored within the view
+    private boolean containsObject(final Object obj) {
+        return obj instanceof IDynamicEntry && this.containsValue((V) obj);
+    }
+
+    /**
+     * Checks whether the object is an entry within the view.
+     *
+     * @param obj the object to check
+     * @return {@code true} if the object is an entry within the view
+     */
+    private boolean containsEntry(final Object obj) {
+        if (!(obj instanceof Map.Entry)) return false;
+        final Map.Entry<?, ?> entry = (Map.Entry<?, ?>) obj;
+        if (!(entry.getKey() instanceof ResourceLocation)) return false;
+        final int id = this.idOf((ResourceLocation) entry.getKey());
+        return id != -1 && this.valuesById[id] == entry.getValue();
+    }
+
+    /**
+     * A set view over the occupied integer identifiers of the view.
+     *
+     * @param <E> the type of the elements within the set
+     */
+    private final class FrozenSet<E> extends AbstractSet<E> {
+
+        /**
+         * Gets the element stored for an occupied integer identifier.
+         */
+        private final IntFunction<E> getter;
+        /**
+         * Checks whether an object is an element of the set.
+         */
+        private final Predicate<Object> contains;
+
+        /**
+         * Constructs a set view.
+         *
+         * @param getter gets the element stored for an occupied integer identifier
+         * @param contains checks whether an object is an element of the set
+         */
+        private FrozenSet(final IntFunction<E> getter, final Predicate<Object> contains) {
+            this.getter = getter;
+            this.contains = contains;
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return new AbstractIterator<E>() {
+
+                /**
+                 * The integer identifier of the next element.
+                 */
+                private int id;
+
+                @Override
+                protected E computeNext() {
+                    final Object[] valuesById = DynamicRegistryView.this.valuesById;
+                    while (this.id < valuesById.length)
+                        if (valuesById[this.id++] != null) return FrozenSet.this.getter.apply(this.id - 1);
+                    return this.endOfData();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return DynamicRegistryView.this.size;
+        }
+
+        @Override
+        public boolean contains(final Object obj) {
+            return this.contains.test(obj);
+        }
+    }
+
+    /**
+     * A map view over a range of sorted integer identifiers.
+     */
+    private final class RangeMap extends AbstractMap<ResourceLocation, V> {
+
+        /**
+         * The sorted integer identifiers.
+         */
+        private final int[] sortedIds;
+        /**
+         * The first position of the range, inclusive.
+         */
+        private final int from;
+        /**
+         * The last position of the range, exclusive.
+         */
+        private final int to;
+        /**
+         * Checks whether an identifier is within the range.
+         */
+        private final Predicate<ResourceLocation> inRange;
+        /**
+         * A set view of the entries within the range.
+         */
+        private final Set<Entry<ResourceLocation, V>> entrySet;
+
+        /**
+         * Constructs a map view over a range.
+         *
+         * @param sortedIds the sorted integer identifiers
+         * @param from the first position of the range, inclusive
+         * @param to the last position of the range, exclusive
+         * @param inRange checks whether an identifier is within the range
+         */
+        private RangeMap(final int[] sortedIds, final int from, final int to, final Predicate<ResourceLocation> inRange) {
+            this.sortedIds = sortedIds;
+            this.from = from;
+            this.to = to;
+            this.inRange = inRange;
+            this.entrySet = new AbstractSet<Entry<ResourceLocation, V>>() {
+
+                @Override
+                public Iterator<Entry<ResourceLocation, V>> iterator() {
+                    return new AbstractIterator<Entry<ResourceLocation, V>>() {
+
+                        /**
+                         * The position of the next entry.
+                         */
+                        private int pos = RangeMap.this.from;
+
+                        @Override
+                        protected Entry<ResourceLocation, V> computeNext() {
+                            if (this.pos >= RangeMap.this.to) return this.endOfData();
+                            final int id = RangeMap.this.sortedIds[this.pos++];
+                            return Maps.immutableEntry(DynamicRegistryView.this.keysById[id], DynamicRegistryView.this.byId(id));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return RangeMap.this.size();
+                }
+            };
+        }
+
+        @Override
+        public Set<Entry<ResourceLocation, V>> entrySet() {
+            return this.entrySet;
+        }
+
+        @Override
+        public int size() {
+            return this.to - this.from;
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return this.get(key) != null;
+        }
+
+        @Nullable
+        @Override
+        public V get(final Object key) {
+            if (!(key instanceof ResourceLocation) || !this.inRange.test((ResourceLocation) key)) return null;
+            return DynamicRegistryView.this.byId(DynamicRegistryView.this.idOf((ResourceLocation) key));
+        }
+    }
+
+    /**
+     * Computes the capacity of an open addressing table such that at most half
+     * of the slots are occupied.
+     *
+     * @param size the number of elements within the table
+     * @return a power of two capacity for the table
+     */
+    static int tableCapacity(final int size) {
+        int capacity = 1;
+        while (capacity < size * 2) capacity <<= 1;
+        return capacity;
+    }
+
+    /**
+     * Spreads the hash code of an identifier for use within an open addressing table.
+     *
+     * @param key the identifier to hash
+     * @return the spread hash of the identifier
+     */
+    static int keyHash(final ResourceLocation key) {
+        final int hash = key.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Spreads the identity hash code of an object for use within an open addressing table.
+     *
+     * @param obj the object to hash
+     * @return the spread identity hash of the object
+     */
+    static int identityHash(final Object obj) {
+        final int hash = System.identityHashCode(obj);
+        return hash ^ (hash >>> 16);
+    }
+}
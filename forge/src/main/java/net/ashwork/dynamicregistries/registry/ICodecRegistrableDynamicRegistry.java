@@ -10,13 +10,16 @@
 package net.ashwork.dynamicregistries.registry;
 
 import com.mojang.serialization.Codec;
+import com.mojang.serialization.DataResult;
 import com.mojang.serialization.DynamicOps;
 import net.ashwork.dynamicregistries.DynamicRegistries;
 import net.ashwork.dynamicregistries.entry.ICodecEntry;
 import net.ashwork.dynamicregistries.entry.IDynamicEntry;
 import net.minecraft.util.ResourceLocation;
 
+import java.util.Arrays;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 /**
  * A registrable instance of a dynamic registry that can encode/decode data
@@ -27,6 +30,12 @@ import java.util.Map;
  */
 public interface ICodecRegistrableDynamicRegistry<V extends IDynamicEntry<V>, C extends ICodecEntry<V, C>> extends IRegistrableDynamicRegistry<V, C> {
 
+    /**
+     * The smallest number of entries decoded together by a single task when
+     * decoding entries in parallel.
+     */
+    int PARALLEL_DECODE_CHUNK_SIZE = 64;
+
     /**
      * Returns the codec used to encode/decode the registry object from its
      * exploded form rather than its registry name.
@@ -45,7 +54,20 @@ public interface ICodecRegistrableDynamicRegistry<V extends IDynamicEntry<V>, C
      * @param <T> the type of the encoded object
      */
     default <T> void register(final ResourceLocation key, final T value, final DynamicOps<T> ops) {
-        this.entryCodec().parse(ops, value).resultOrPartial(error ->
+        this.register(key, value, this.entryCodec().parse(ops, value));
+    }
+
+    /**
+     * Registers a registry object that has already been decoded to the registry,
+     * reporting the error if it could not be decoded.
+     *
+     * @param key the identifier of the registry object
+     * @param value the encoded form of the registry object
+     * @param result the result of decoding the registry object
+     * @param <T> the type of the encoded object
+     */
+    default <T> void register(final ResourceLocation key, final T value, final DataResult<V> result) {
+        result.resultOrPartial(error ->
                 DynamicRegistries.LOGGER.error(IRegistrableDynamicRegistry.REGISTER, "{} could not be decoded from {} within {}: {}", key, value, this.getName(), error))
         .ifPresent(registryObject -> {
             registryObject.setRegistryName(key);
@@ -63,4 +85,29 @@ public interface ICodecRegistrableDynamicRegistry<V extends IDynamicEntry<V>, C
     default <T> void registerAll(final Map<ResourceLocation, T> entries, final DynamicOps<T> ops) {
         entries.forEach((key, value) -> this.register(key, value, ops));
     }
+
+    /**
+     * Registers all registry objects from their encoded forms to the registry,
+     * decoding them on the {@code executor} if the registry allows entries to be
+     * decoded in parallel.
+     *
+     * @implSpec
+     * The default implementation decodes the entries on the calling thread, as
+     * only the registry knows whether its entries can be decoded concurrently.
+     * Entries are reported and registered one at a time in order of their
+     * identifier, so the registry contents and any decoding errors do not depend
+     * on how the work was scheduled.
+     *
+     * @param entries a map of identifiers to encoded registry objects
+     * @param ops the operator used to transmute the encoded object
+     * @param executor the executor to decode the entries on
+     * @param <T> the type of the encoded object
+     *
+     * @see DynamicRegistryBuilder#decodeInParallel()
+     */
+    default <T> void registerAll(final Map<ResourceLocation, T> entries, final DynamicOps<T> ops, final Executor executor) {
+        final ResourceLocation[] keys = entries.keySet().toArray(new ResourceLocation[0]);
+        Arrays.sort(keys);
+        for (ResourceLocation key : keys) this.register(key, entries.get(key), ops);
+    }
 }
@@ -68,6 +68,20 @@ public interface IDynamicRegistry<V extends IDynamicEntry<V>, C extends ICodecEn
      */
     Class<C> getCodecSuperType();
 
+    /**
+     * Returns the generation of the registry. The generation changes every
+     * time the contents of the registry are republished, so any data derived
+     * from the registry only needs to be recomputed when it changes.
+     *
+     * @implSpec
+     * Contents are republished once the registry is locked again after being
+     * modified, such as by {@link IStageableDynamicRegistry#setAndUnlockFromStage},
+     * {@link ISnapshotDynamicRegistry#fromSnapshot}, or {@link IModifiableDynamicRegistry#clear}.
+     *
+     * @return the generation of the registry
+     */
+    int getGeneration();
+
     /**
      * Checks whether this registry has a registry object registered with
      * the given {@code key}.
@@ -149,6 +163,33 @@ public interface IDynamicRegistry<V extends IDynamicEntry<V>, C extends ICodecEn
         return Optional.ofNullable(this.getKey(value));
     }
 
+    /**
+     * Gets the integer identifier associated with the {@code value} if present.
+     * If none exists, then {@code -1} is returned.
+     *
+     * @implSpec
+     * Identifiers are dense and assigned whenever the registry is locked. A key
+     * will keep the same identifier across reloads for as long as it remains
+     * within the registry. A registry synced to the client assigns the same
+     * identifiers as the server.
+     *
+     * @param value the registry object
+     * @return the associated integer identifier or {@code -1}
+     */
+    int getId(final V value);
+
+    /**
+     * Gets the registry object associated with the integer {@code id} if present.
+     * If none exists, then {@code null} is returned.
+     *
+     * @param id the integer identifier of a registry object
+     * @return the associated registry object or {@code null}
+     *
+     * @see #getId(IDynamicEntry)
+     */
+    @Nullable
+    V byId(final int id);
+
     /**
      * Returns the set of all identifiers within the registry.
      *
@@ -170,6 +211,44 @@ public interface IDynamicRegistry<V extends IDynamicEntry<V>, C extends ICodecEn
      */
     Set<Map.Entry<ResourceLocation, V>> entrySet();
 
+    /**
+     * Returns the entries within the registry whose identifier has the given
+     * {@code namespace}, sorted by their path.
+     *
+     * @implSpec
+     * The entries are found through an index built whenever the registry is locked
+     * rather than by filtering every identifier within the registry.
+     *
+     * @param namespace the namespace of the identifiers
+     * @return the entries within the namespace
+     */
+    Map<ResourceLocation, V> getNamespaceEntries(final String namespace);
+
+    /**
+     * Returns the entries within the registry whose identifier has the given
+     * {@code namespace} and a path starting with {@code pathPrefix}, sorted
+     * by their path.
+     *
+     * @param namespace the namespace of the identifiers
+     * @param pathPrefix the prefix of the identifier paths
+     * @return the entries within the namespace under the path prefix
+     *
+     * @see #getNamespaceEntries(String)
+     */
+    Map<ResourceLocation, V> getPathEntries(final String namespace, final String pathPrefix);
+
+    /**
+     * Returns the entries within the registry whose identifier has a path starting
+     * with {@code pathPrefix} in any namespace, sorted by their path and then by
+     * their namespace.
+     *
+     * @param pathPrefix the prefix of the identifier paths
+     * @return the entries under the path prefix
+     *
+     * @see #getNamespaceEntries(String)
+     */
+    Map<ResourceLocation, V> getPathEntries(final String pathPrefix);
+
     /**
      * Returns a stream of registry objects within the registry.
      *
@@ -14,6 +14,9 @@ import net.ashwork.dynamicregistries.entry.IDynamicEntry;
 import org.apache.logging.log4j.Marker;
 import org.apache.logging.log4j.MarkerManager;
 
+import java.util.Arrays;
+import java.util.Collection;
+
 /**
  * A registrable instance of an {@link IDynamicRegistry}.
  *
@@ -41,10 +44,28 @@ public interface IRegistrableDynamicRegistry<V extends IDynamicEntry<V>, C exten
      *
      * @param values the registry objects to be registered
      *
-     * @see #register(IDynamicEntry)
+     * @see #registerAll(Collection)
      */
     @SuppressWarnings("unchecked")
     default void registerAll(final V... values) {
-        for (V value : values) this.register(value);
+        this.registerAll(Arrays.asList(values));
+    }
+
+    /**
+     * Registers all registry objects to the registry. The result is the same
+     * as registering each registry object in order.
+     *
+     * @implSpec
+     * The default implementation registers each registry object one at a time.
+     * Implementations may instead validate the whole batch before registering
+     * any registry object.
+     *
+     * @param values the registry objects to be registered
+     * @throws NullPointerException if a value or its identifier is null
+     *
+     * @see #register(IDynamicEntry)
+     */
+    default void registerAll(final Collection<? extends V> values) {
+        values.forEach(this::register);
     }
 }
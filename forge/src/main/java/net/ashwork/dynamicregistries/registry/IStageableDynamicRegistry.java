@@ -36,6 +36,11 @@ public interface IStageableDynamicRegistry<V extends IDynamicEntry<V>, C extends
      * Sets the data of the registry from that of a different stage and unlocks the registry
      * for later processing.
      *
+     * @implSpec
+     * The data is written to a registry being built separately from the published contents,
+     * so readers continue to see the previous contents until the registry is locked again.
+     * If the data could not be set, the registry is relocked with its previous contents intact.
+     *
      * @param stage the registry stage to copy data from
      * @return a set of old registry names
      */
@@ -0,0 +1,305 @@
+/*
+ * Dynamic Registries
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.dynamicregistries.registry;
+
+import com.mojang.datafixers.util.Pair;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.DynamicOps;
+import com.mojang.serialization.MapLike;
+import net.ashwork.dynamicregistries.entry.IDynamicEntry;
+import net.minecraft.util.ResourceLocation;
+
+import javax.annotation.Nullable;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * An operator used to decode data during a single reload. Registry objects
+ * decoded through a {@link DynamicRegistry} with this operator are resolved
+ * against the views staged by the reload so far rather than the currently
+ * published views, so registries can decode against the new contents of
+ * the registries they depend on without those contents being visible to
+ * anything else before the reload is published.
+ *
+ * @implNote
+ * Every operation is delegated to the wrapped operator. Views are only
+ * staged between the waves of a reload, so all registries decoded within
+ * the same wave resolve against the same views regardless of how the work
+ * was scheduled.
+ *
+ * @param <T> the type of the encoded object
+ */
+public final class ReloadOps<T> implements DynamicOps<T> {
+
+    /**
+     * The operator all operations are delegated to.
+     */
+    private final DynamicOps<T> delegate;
+    /**
+     * The views staged by the reload so far, keyed by the name of their registry.
+     */
+    private final Map<ResourceLocation, DynamicRegistryView<?>> stagedViews;
+
+    /**
+     * Constructs an operator for a new reload.
+     *
+     * @param delegate the operator all operations are delegated to
+     */
+    public ReloadOps(final DynamicOps<T> delegate) {
+        this(delegate, new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Constructs an operator.
+     *
+     * @param delegate the operator all operations are delegated to
+     * @param stagedViews the views staged by the reload so far
+     */
+    private ReloadOps(final DynamicOps<T> delegate, final Map<ResourceLocation, DynamicRegistryView<?>> stagedViews) {
+        this.delegate = delegate;
+        this.stagedViews = stagedViews;
+    }
+
+    /**
+     * Returns an operator for the same reload which delegates to another
+     * operator, such that data of a different type resolves against the
+     * same staged views.
+     *
+     * @param delegate the operator all operations are delegated to
+     * @param <U> the type of the encoded object
+     * @return an operator for the same reload
+     */
+    public <U> ReloadOps<U> withDelegate(final DynamicOps<U> delegate) {
+        return new ReloadOps<>(delegate, this.stagedViews);
+    }
+
+    /**
+     * Stages the registry if it has not been already and makes its staged
+     * view visible to everything decoded afterwards within this reload.
+     *
+     * @param registry the registry to stage
+     */
+    public void stage(final DynamicRegistry<?, ?> registry) {
+        registry.stageLock();
+        @Nullable final DynamicRegistryView<?> stagedView = registry.getStagedView();
+        if (stagedView != null) this.stagedViews.put(registry.getName(), stagedView);
+    }
+
+    /**
+     * Returns the view staged for the registry within this reload.
+     *
+     * @param registry the registry
+     * @param <V> the super type of the dynamic registry entry
+     * @return the staged view of the registry, or {@code null} if the registry
+     *         has not been staged yet
+     */
+    @Nullable
+    @SuppressWarnings("unchecked") // Views are only staged under the name of their own registry
+    <V extends IDynamicEntry<V>> DynamicRegistryView<V> getStagedView(final DynamicRegistry<V, ?> registry) {
+        return (DynamicRegistryView<V>) this.stagedViews.get(registry.getName());
+    }
+
+    @Override
+    public T empty() {
+        return this.delegate.empty();
+    }
+
+    @Override
+    public T emptyMap() {
+        return this.delegate.emptyMap();
+    }
+
+    @Override
+    public T emptyList() {
+        return this.delegate.emptyList();
+    }
+
+    @Override
+    public <U> U convertTo(final DynamicOps<U> outOps, final T input) {
+        return this.delegate.convertTo(outOps, input);
+    }
+
+    @Override
+    public DataResult<Number> getNumberValue(final T input) {
+        return this.delegate.getNumberValue(input);
+    }
+
+    @Override
+    public T createNumeric(final Number i) {
+        return this.delegate.createNumeric(i);
+    }
+
+    @Override
+    public T createByte(final byte value) {
+        return this.delegate.createByte(value);
+    }
+
+    @Override
+    public T createShort(final short value) {
+        return this.delegate.createShort(value);
+    }
+
+    @Override
+    public T createInt(final int value) {
+        return this.delegate.createInt(value);
+    }
+
+    @Override
+    public T createLong(final long value) {
+        return this.delegate.createLong(value);
+    }
+
+    @Override
+    public T createFloat(final float value) {
+        return this.delegate.createFloat(value);
+    }
+
+    @Override
+    public T createDouble(final double value) {
+        return this.delegate.createDouble(value);
+    }
+
+    @Override
+    public DataResult<Boolean> getBooleanValue(final T input) {
+        return this.delegate.getBooleanValue(input);
+    }
+
+    @Override
+    public T createBoolean(final boolean value) {
+        return this.delegate.createBoolean(value);
+    }
+
+    @Override
+    public DataResult<String> getStringValue(final T input) {
+        return this.delegate.getStringValue(input);
+    }
+
+    @Override
+    public T createString(final String value) {
+        return this.delegate.createString(value);
+    }
+
+    @Override
+    public DataResult<T> mergeToList(final T list, final T value) {
+        return this.delegate.mergeToList(list, value);
+    }
+
+    @Override
+    public DataResult<T> mergeToList(final T list, final List<T> values) {
+        return this.delegate.mergeToList(list, values);
+    }
+
+    @Override
+    public DataResult<T> mergeToMap(final T map, final T key, final T value) {
+        return this.delegate.mergeToMap(map, key, value);
+    }
+
+    @Override
+    public DataResult<T> mergeToMap(final T map, final Map<T, T> values) {
+        return this.delegate.mergeToMap(map, values);
+    }
+
+    @Override
+    public DataResult<T> mergeToMap(final T map, final MapLike<T> values) {
+        return this.delegate.mergeToMap(map, values);
+    }
+
+    @Override
+    public DataResult<Stream<Pair<T, T>>> getMapValues(final T input) {
+        return this.delegate.getMapValues(input);
+    }
+
+    @Override
+    public DataResult<Consumer<BiConsumer<T, T>>> getMapEntries(final T input) {
+        return this.delegate.getMapEntries(input);
+    }
+
+    @Override
+    public T createMap(final Stream<Pair<T, T>> map) {
+        return this.delegate.createMap(map);
+    }
+
+    @Override
+    public T createMap(final Map<T, T> map) {
+        return this.delegate.createMap(map);
+    }
+
+    @Override
+    public DataResult<MapLike<T>> getMap(final T input) {
+        return this.delegate.getMap(input);
+    }
+
+    @Override
+    public DataResult<Stream<T>> getStream(final T input) {
+        return this.delegate.getStream(input);
+    }
+
+    @Override
+    public DataResult<Consumer<Consumer<T>>> getList(final T input) {
+        return this.delegate.getList(input);
+    }
+
+    @Override
+    public T createList(final Stream<T> input) {
+        return this.delegate.createList(input);
+    }
+
+    @Override
+    public DataResult<ByteBuffer> getByteBuffer(final T input) {
+        return this.delegate.getByteBuffer(input);
+    }
+
+    @Override
+    public T createByteList(final ByteBuffer input) {
+        return this.delegate.createByteList(input);
+    }
+
+    @Override
+    public DataResult<IntStream> getIntStream(final T input) {
+        return this.delegate.getIntStream(input);
+    }
+
+    @Override
+    public T createIntList(final IntStream input) {
+        return this.delegate.createIntList(input);
+    }
+
+    @Override
+    public DataResult<LongStream> getLongStream(final T input) {
+        return this.delegate.getLongStream(input);
+    }
+
+    @Override
+    public T createLongList(final LongStream input) {
+        return this.delegate.createLongList(input);
+    }
+
+    @Override
+    public T remove(final T input, final String key) {
+        return this.delegate.remove(input, key);
+    }
+
+    @Override
+    public boolean compressMaps() {
+        return this.delegate.compressMaps();
+    }
+
+    @Override
+    public String toString() {
+        return "Reload[" + this.delegate + "]";
+    }
+}
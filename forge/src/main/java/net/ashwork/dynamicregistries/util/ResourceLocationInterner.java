@@ -0,0 +1,133 @@
+/*
+ * Dynamic Registries
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.dynamicregistries.util;
+
+import com.mojang.serialization.Codec;
+import net.minecraft.util.ResourceLocation;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A shared pool of {@link ResourceLocation}s decoded by the dynamic registries.
+ * Equal identifiers passed through the pool will be the same instance, which
+ * reduces the number of duplicate identifiers held in memory and allows the
+ * registries to compare keys by identity before falling back to equality.
+ */
+public final class ResourceLocationInterner {
+
+    /**
+     * A codec which interns every identifier it decodes.
+     */
+    public static final Codec<ResourceLocation> CODEC = ResourceLocation.CODEC.xmap(ResourceLocationInterner::intern, Function.identity());
+
+    /**
+     * The canonical instance of each identifier within the pool.
+     */
+    private static final Map<ResourceLocation, ResourceLocation> POOL = new ConcurrentHashMap<>();
+    /**
+     * The number of identifiers passed through the pool and the number of those
+     * which were already present respectively.
+     */
+    private static final LongAdder LOOKUPS = new LongAdder(), HITS = new LongAdder();
+
+    /**
+     * A private constructor as this is a utility class.
+     */
+    private ResourceLocationInterner() {}
+
+    /**
+     * Returns the canonical instance of the identifier, adding it to the pool
+     * if no equal identifier is present.
+     *
+     * @param location the identifier to intern
+     * @return the canonical instance of the identifier
+     */
+    public static ResourceLocation intern(final ResourceLocation location) {
+        LOOKUPS.increment();
+        final ResourceLocation canonical = POOL.putIfAbsent(location, location);
+        if (canonical == null) return location;
+        HITS.increment();
+        return canonical;
+    }
+
+    /**
+     * Returns the canonical instance of the identifier with the specified
+     * namespace and path.
+     *
+     * @param namespace the namespace of the identifier
+     * @param path the path of the identifier
+     * @return the canonical instance of the identifier
+     */
+    public static ResourceLocation intern(final String namespace, final String path) {
+        return intern(new ResourceLocation(namespace, path));
+    }
+
+    /**
+     * Returns the canonical instance of the identifier parsed from a string.
+     *
+     * @param location the string form of the identifier
+     * @return the canonical instance of the identifier
+     */
+    public static ResourceLocation intern(final String location) {
+        return intern(new ResourceLocation(location));
+    }
+
+    /**
+     * Returns the number of identifiers within the pool.
+     *
+     * @return the number of identifiers within the pool
+     */
+    public static int size() {
+        return POOL.size();
+    }
+
+    /**
+     * Returns the number of identifiers that have been passed through the pool.
+     *
+     * @return the number of identifiers that have been passed through the pool
+     */
+    public static long lookups() {
+        return LOOKUPS.sum();
+    }
+
+    /**
+     * Returns the number of identifiers passed through the pool that were
+     * already present.
+     *
+     * @return the number of identifiers that were already present
+     */
+    public static long hits() {
+        return HITS.sum();
+    }
+
+    /**
+     * Returns the ratio of identifiers passed through the pool that were
+     * already present, or {@code 0} if no lookups have occurred.
+     *
+     * @return the hit rate of the pool
+     */
+    public static double hitRate() {
+        final long lookups = lookups();
+        return lookups == 0 ? 0 : (double) hits() / lookups;
+    }
+
+    /**
+     * Clears the pool and its statistics. Identifiers interned previously
+     * remain valid, but will no longer be the canonical instance.
+     */
+    public static void clear() {
+        POOL.clear();
+        LOOKUPS.reset();
+        HITS.reset();
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Dynamic Registries
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.dynamicregistries;
+
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableMap;
+import com.mojang.serialization.JsonOps;
+import net.ashwork.dynamicregistries.registry.DynamicRegistry;
+import net.ashwork.dynamicregistries.registry.DynamicRegistryBuilder;
+import net.minecraft.nbt.CompoundNBT;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static net.ashwork.dynamicregistries.registry.TestRegistries.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Writes registries to their files and loads them back, including after saves
+ * which stopped part way through.
+ */
+public class DynamicRegistryDataTest {
+
+    /**
+     * A value large enough that a few dozen entries exceed the minimum size of
+     * a journal before it is compacted.
+     */
+    private static final String LARGE_VALUE = Strings.repeat("x", 1024);
+
+    private static DynamicRegistry<TestEntry, TestCodec> registry;
+
+    @TempDir
+    public Path directory;
+
+    @BeforeAll
+    public static void createRegistry() {
+        builder("saved", DynamicRegistryBuilder::appendAndReplaceEntries, LEAF).create();
+        DynamicRegistryManager.DYNAMIC.reload(Collections.emptyMap(), JsonOps.INSTANCE, DynamicRegistryManager.STATIC, Runnable::run);
+        registry = DynamicRegistryManager.DYNAMIC.getRegistry(id("saved"));
+    }
+
+    @BeforeEach
+    public void resetRegistry() {
+        registry.reset();
+    }
+
+    @Test
+    public void replaysJournalOntoSnapshot() throws IOException {
+        final DynamicRegistryData data = new DynamicRegistryData(this.directory);
+        put("a", "1");
+        put("b", "2");
+        save(data);
+        assertFalse(Files.exists(this.file(".journal")));
+
+        put("b", "3");
+        put("c", "4");
+        remove("a");
+        save(data);
+        assertTrue(Files.exists(this.file(".journal")));
+        assertEquals(readGeneration(this.file(".dat")), readGeneration(this.file(".journal")));
+
+        this.load();
+        assertEquals(ImmutableMap.of("b", "3", "c", "4"), contents());
+    }
+
+    @Test
+    public void keepsFilesWhenSnapshotWasNotMoved() throws IOException {
+        final DynamicRegistryData data = new DynamicRegistryData(this.directory);
+        put("a", "1");
+        save(data);
+        put("b", "2");
+        save(data);
+
+        // The save stopped while writing the next snapshot to its temporary file
+        Files.write(this.file(".dat.tmp"), new byte[]{1, 2, 3});
+        this.load();
+        assertEquals(ImmutableMap.of("a", "1", "b", "2"), contents());
+    }
+
+    @Test
+    public void ignoresJournalLeftBehindBySnapshot() throws IOException {
+        final DynamicRegistryData data = new DynamicRegistryData(this.directory);
+        put("a", "1");
+        save(data);
+        put("b", "2");
+        registerAll(registry, largeEntries(80));
+        save(data);
+        final byte[] staleJournal = Files.readAllBytes(this.file(".journal"));
+        final long staleGeneration = readGeneration(this.file(".dat"));
+
+        // Compacts the journal, after which the save stops before removing the journal
+        remove("b");
+        save(data);
+        assertFalse(Files.exists(this.file(".journal")));
+        assertTrue(readGeneration(this.file(".dat")) > staleGeneration);
+        Files.write(this.file(".journal"), staleJournal);
+
+        final DynamicRegistryData reloaded = this.load();
+        assertFalse(contents().containsKey("b"), "Stale journal was replayed");
+        assertEquals(81, contents().size());
+
+        // A new journal replaces the stale one rather than being appended to it
+        put("c", "3");
+        save(reloaded);
+        assertEquals(readGeneration(this.file(".dat")), readGeneration(this.file(".journal")));
+        this.load();
+        final Map<String, String> contents = contents();
+        assertFalse(contents.containsKey("b"), "Stale journal was replayed");
+        assertEquals("3", contents.get("c"));
+        assertEquals(82, contents.size());
+    }
+
+    @Test
+    public void ignoresIncompleteJournalRecord() throws IOException {
+        final DynamicRegistryData data = new DynamicRegistryData(this.directory);
+        put("a", "1");
+        save(data);
+        put("b", "2");
+        save(data);
+        put("c", "3");
+        save(data);
+
+        // The save stopped while appending the last record
+        final byte[] journal = Files.readAllBytes(this.file(".journal"));
+        Files.write(this.file(".journal"), Arrays.copyOf(journal, journal.length - 3));
+        this.load();
+        assertEquals(ImmutableMap.of("a", "1", "b", "2"), contents());
+    }
+
+    @Test
+    public void compactsLargeJournalIntoSnapshot() throws IOException {
+        final DynamicRegistryData data = new DynamicRegistryData(this.directory);
+        put("a", "1");
+        save(data);
+        final long firstGeneration = readGeneration(this.file(".dat"));
+
+        registerAll(registry, largeEntries(80));
+        save(data);
+        assertTrue(Files.size(this.file(".journal")) > 64 * 1024);
+
+        put("b", "2");
+        save(data);
+        assertFalse(Files.exists(this.file(".journal")));
+        assertTrue(readGeneration(this.file(".dat")) > firstGeneration);
+
+        this.load();
+        final Map<String, String> contents = contents();
+        assertEquals(82, contents.size());
+        assertEquals("2", contents.get("b"));
+        assertEquals(LARGE_VALUE, contents.get("large_79"));
+    }
+
+    @Test
+    public void writesSnapshotWhenMergeChangedRegistry() throws IOException {
+        put("a", "1");
+        save(new DynamicRegistryData(this.directory));
+
+        // The reloaded entry replaces the saved entry under the same key
+        registry.reset();
+        put("a", "2");
+        final DynamicRegistryData data = new DynamicRegistryData(this.directory);
+        data.deferLoads();
+        DynamicRegistryManager.DYNAMIC.loadPending();
+        assertEquals(ImmutableMap.of("a", "2"), contents());
+        save(data);
+        assertFalse(Files.exists(this.file(".journal")));
+
+        this.load();
+        assertEquals(ImmutableMap.of("a", "2"), contents());
+    }
+
+    /**
+     * Clears the registry and loads it from the files within the directory.
+     *
+     * @return the container the registry was loaded by
+     */
+    private DynamicRegistryData load() {
+        registry.reset();
+        final DynamicRegistryData data = new DynamicRegistryData(this.directory);
+        data.deferLoads();
+        DynamicRegistryManager.DYNAMIC.loadPending();
+        return data;
+    }
+
+    private Path file(final String extension) {
+        return this.directory.resolve(NAMESPACE).resolve("saved" + extension);
+    }
+
+    private static void save(final DynamicRegistryData data) {
+        data.save(new CompoundNBT());
+    }
+
+    private static void put(final String path, final String value) {
+        registerAll(registry, ImmutableMap.of(path, new Leaf(value)));
+    }
+
+    private static void remove(final String path) {
+        registry.unlock();
+        registry.remove(id(path));
+        registry.lock();
+    }
+
+    private static Map<String, TestEntry> largeEntries(final int count) {
+        final Map<String, TestEntry> entries = new HashMap<>();
+        for (int i = 0; i < count; i++) entries.put("large_" + i, new Leaf(LARGE_VALUE));
+        return entries;
+    }
+
+    private static Map<String, String> contents() {
+        final Map<String, String> contents = new TreeMap<>();
+        registry.getView().entries().forEach((key, value) -> contents.put(key.getPath(), ((Leaf) value).getValue()));
+        return contents;
+    }
+
+    private static long readGeneration(final Path file) throws IOException {
+        return ByteBuffer.wrap(Files.readAllBytes(file)).getLong();
+    }
+}
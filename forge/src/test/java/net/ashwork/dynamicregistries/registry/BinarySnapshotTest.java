@@ -0,0 +1,111 @@
+/*
+ * Dynamic Registries
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.dynamicregistries.registry;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.mojang.serialization.JsonOps;
+import net.minecraft.nbt.ByteArrayNBT;
+import net.minecraft.nbt.INBT;
+import net.minecraft.nbt.NBTDynamicOps;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static net.ashwork.dynamicregistries.registry.TestRegistries.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Round trips registries through their binary snapshots.
+ */
+public class BinarySnapshotTest {
+
+    @Test
+    public void restoresReferencesAgainstStagedRegistries() {
+        final DynamicRegistry<TestEntry, TestCodec> leaves = create("snapshot_leaves", LEAF);
+        final TestCodec linkCodec = link("snapshot_link", leaves);
+        final DynamicRegistry<TestEntry, TestCodec> links = create("snapshot_links", linkCodec);
+        registerAll(leaves, ImmutableMap.of("a", new Leaf("first")));
+        registerAll(links, ImmutableMap.of("to_a", new Link(linkCodec, leaves.getValue(id("a")))));
+        final byte[] leafSnapshot = leaves.toBinarySnapshot(), linkSnapshot = links.toBinarySnapshot();
+        assertNotNull(leafSnapshot);
+        assertNotNull(linkSnapshot);
+
+        final DynamicRegistry<TestEntry, TestCodec> restoredLeaves = create("snapshot_leaves", LEAF);
+        final DynamicRegistry<TestEntry, TestCodec> restoredLinks = create("snapshot_links", link("snapshot_link", restoredLeaves));
+        final ReloadOps<INBT> ops = new ReloadOps<>(NBTDynamicOps.INSTANCE);
+        assertTrue(restoredLeaves.stageSnapshot(new ByteArrayNBT(leafSnapshot), ops));
+        ops.stage(restoredLeaves);
+        assertTrue(restoredLinks.stageSnapshot(new ByteArrayNBT(linkSnapshot), ops));
+        ops.stage(restoredLinks);
+        assertNull(restoredLeaves.getValue(id("a")), "Staged snapshots are not published");
+
+        restoredLeaves.publishStaged();
+        restoredLinks.publishStaged();
+        final TestEntry target = ((Link) restoredLinks.getValue(id("to_a"))).getTarget();
+        assertSame(restoredLeaves.getValue(id("a")), target);
+        assertEquals("first", ((Leaf) target).getValue());
+    }
+
+    @Test
+    public void restoresReferencesAgainstPublishedRegistries() {
+        final DynamicRegistry<TestEntry, TestCodec> leaves = create("published_leaves", LEAF);
+        final TestCodec linkCodec = link("published_link", leaves);
+        final DynamicRegistry<TestEntry, TestCodec> links = create("published_links", linkCodec);
+        registerAll(leaves, ImmutableMap.of("a", new Leaf("first")));
+        registerAll(links, ImmutableMap.of("to_a", new Link(linkCodec, leaves.getValue(id("a")))));
+        final byte[] linkSnapshot = links.toBinarySnapshot();
+        assertNotNull(linkSnapshot);
+
+        final DynamicRegistry<TestEntry, TestCodec> restoredLinks = create("published_links", link("published_link", leaves));
+        assertTrue(restoredLinks.fromBinarySnapshot(linkSnapshot, false));
+        assertSame(leaves.getValue(id("a")), ((Link) restoredLinks.getValue(id("to_a"))).getTarget());
+    }
+
+    @Test
+    public void failsWhenReferenceIsMissing() {
+        final DynamicRegistry<TestEntry, TestCodec> leaves = create("missing_leaves", LEAF);
+        final TestCodec linkCodec = link("missing_link", leaves);
+        final DynamicRegistry<TestEntry, TestCodec> links = create("missing_links", linkCodec);
+        registerAll(leaves, ImmutableMap.of("a", new Leaf("first")));
+        registerAll(links, ImmutableMap.of("to_a", new Link(linkCodec, leaves.getValue(id("a")))));
+        final byte[] linkSnapshot = links.toBinarySnapshot();
+        assertNotNull(linkSnapshot);
+
+        // Nothing has been staged for the referenced registry, so the reference cannot resolve
+        final DynamicRegistry<TestEntry, TestCodec> restoredLeaves = create("missing_leaves", LEAF);
+        final DynamicRegistry<TestEntry, TestCodec> restoredLinks = create("missing_links", link("missing_link", restoredLeaves));
+        assertFalse(restoredLinks.stageSnapshot(new ByteArrayNBT(linkSnapshot), new ReloadOps<>(NBTDynamicOps.INSTANCE)));
+    }
+
+    @Test
+    public void acceptsBinarySnapshotFromAnyOperator() {
+        final DynamicRegistry<TestEntry, TestCodec> leaves = create("json_leaves", LEAF);
+        registerAll(leaves, ImmutableMap.of("a", new Leaf("first")));
+        final byte[] snapshot = leaves.toBinarySnapshot();
+        assertNotNull(snapshot);
+
+        final DynamicRegistry<TestEntry, TestCodec> restored = create("json_leaves", LEAF);
+        final JsonElement bytes = JsonOps.INSTANCE.createByteList(ByteBuffer.wrap(snapshot));
+        assertTrue(restored.stageSnapshot(bytes, new ReloadOps<>(JsonOps.INSTANCE)));
+        restored.publishStaged();
+        assertEquals("first", ((Leaf) restored.getValue(id("a"))).getValue());
+    }
+
+    @Test
+    public void decodesNumberListThroughCodec() {
+        final DynamicRegistry<TestEntry, TestCodec> leaves = create("number_leaves", LEAF);
+        final JsonArray numbers = new JsonArray();
+        for (int i = 0; i < 16; i++) numbers.add(i);
+        assertFalse(leaves.stageSnapshot(numbers, JsonOps.INSTANCE), "A list of numbers is not a binary snapshot");
+        assertTrue(leaves.getView().entries().isEmpty());
+    }
+}
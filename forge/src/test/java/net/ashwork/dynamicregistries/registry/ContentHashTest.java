@@ -0,0 +1,44 @@
+/*
+ * Dynamic Registries
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.dynamicregistries.registry;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the content of reused entries is hashed independently of how
+ * it was written.
+ */
+public class ContentHashTest {
+
+    @Test
+    public void ignoresMemberOrder() {
+        assertEquals(hash("{\"a\": 1, \"b\": {\"c\": [1, 2], \"d\": \"e\"}}"),
+                hash("{\"b\": {\"d\": \"e\", \"c\": [1, 2]}, \"a\": 1}"));
+    }
+
+    @Test
+    public void distinguishesContent() {
+        assertNotEquals(hash("{\"a\": 1}"), hash("{\"a\": 2}"));
+        assertNotEquals(hash("{\"a\": 1}"), hash("{\"a\": \"1\"}"));
+        assertNotEquals(hash("[1, 2]"), hash("[2, 1]"));
+        assertNotEquals(hash("[[1], 2]"), hash("[1, [2]]"));
+        assertNotEquals(hash("{\"a\": null}"), hash("{}"));
+        assertNotEquals(hash("{\"ab\": \"c\"}"), hash("{\"a\": \"bc\"}"));
+    }
+
+    private static String hash(final String json) {
+        final JsonElement element = new JsonParser().parse(json);
+        return DynamicRegistry.hashContent(element).toString();
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Dynamic Registries
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.dynamicregistries.registry;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.gson.JsonObject;
+import com.mojang.serialization.JsonOps;
+import net.ashwork.dynamicregistries.registry.DynamicRegistry.MissingEntryManager;
+import net.minecraft.util.ResourceLocation;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static net.ashwork.dynamicregistries.registry.TestRegistries.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks which declared strategy handles a missing entry and how the aliases
+ * created by them are resolved.
+ */
+public class MissingEntryManagerTest {
+
+    /**
+     * A declaration for every step of the precedence, each remapping to a
+     * target named after the declaration.
+     */
+    private static final MissingEntryManager ALL_STEPS = manager(
+            "*", "any",
+            "*:old/*", "any_namespace",
+            "example:*", "namespace",
+            "example:old/*", "namespace_path",
+            "example:old/entry", "exact"
+    );
+
+    @Test
+    public void prefersMostSpecificDeclaration() {
+        assertEquals(id("exact"), remappedBy(ALL_STEPS, "example:old/entry"));
+        assertEquals(id("namespace_path"), remappedBy(ALL_STEPS, "example:old/other"));
+        assertEquals(id("namespace"), remappedBy(ALL_STEPS, "example:new/entry"));
+        assertEquals(id("any_namespace"), remappedBy(ALL_STEPS, "other:old/entry"));
+        assertEquals(id("any"), remappedBy(ALL_STEPS, "other:new/entry"));
+    }
+
+    @Test
+    public void ignoresDeclarationOrderBetweenSteps() {
+        final MissingEntryManager manager = manager(
+                "example:old/entry", "exact",
+                "example:old/*", "namespace_path",
+                "example:*", "namespace",
+                "*:old/*", "any_namespace",
+                "*", "any"
+        );
+        assertEquals(id("exact"), remappedBy(manager, "example:old/entry"));
+        assertEquals(id("namespace_path"), remappedBy(manager, "example:old/other"));
+        assertEquals(id("namespace"), remappedBy(manager, "example:new/entry"));
+        assertEquals(id("any"), remappedBy(manager, "other:new/entry"));
+        // Both wildcard namespaces are within the same step, so the last declared is used
+        assertEquals(id("any"), remappedBy(manager, "other:old/entry"));
+    }
+
+    @Test
+    public void prefersLastDeclarationWithinStep() {
+        final MissingEntryManager manager = manager(
+                "example:old/*", "first_path",
+                "example:*/entry", "second_path",
+                "*:old/*", "first_namespace",
+                "*:*", "second_namespace"
+        );
+        assertEquals(id("second_path"), remappedBy(manager, "example:old/entry"));
+        assertEquals(id("first_path"), remappedBy(manager, "example:old/other"));
+        assertEquals(id("second_namespace"), remappedBy(manager, "other:old/entry"));
+    }
+
+    @Test
+    public void redeclarationTakesPrecedence() {
+        final MissingEntryManager manager = manager(
+                "*:old/*", "first",
+                "*:*", "second"
+        ).merge(declarations("*:old/*", "redeclared"), JsonOps.INSTANCE);
+        assertEquals(id("redeclared"), remappedBy(manager, "other:old/entry"));
+        assertEquals(id("second"), remappedBy(manager, "other:new/entry"));
+    }
+
+    @Test
+    public void defaultsToDummy() {
+        final MissingEntryManager manager = manager("example:*", "namespace");
+        final DynamicRegistry<TestEntry, TestCodec> registry = create("missing_dummy", LEAF);
+        registry.unlock();
+        manager.handle(new ResourceLocation("other:entry"), registry);
+        assertTrue(registry.dummies.contains(new ResourceLocation("other:entry")));
+        assertNull(registry.aliases.get(new ResourceLocation("other:entry")));
+        assertSame(MissingEntryManager.EMPTY, MissingEntryManager.builder().build());
+    }
+
+    @Test
+    public void reportsAliasCycle() {
+        final ResourceLocation a = id("a"), b = id("b"), c = id("c"), intoCycle = id("into_cycle"), chained = id("chained"), entry = id("entry");
+        final Map<ResourceLocation, ResourceLocation> aliases = ImmutableMap.<ResourceLocation, ResourceLocation>builder()
+                .put(intoCycle, a)
+                .put(a, b)
+                .put(b, c)
+                .put(c, a)
+                .put(chained, id("link"))
+                .put(id("link"), entry)
+                .build();
+        final List<List<ResourceLocation>> cycles = new ArrayList<>();
+        final Map<ResourceLocation, ResourceLocation> resolved = DynamicRegistry.resolveAliases(id("aliases"), aliases, ImmutableSet.of(entry), cycles::add);
+
+        assertEquals(ImmutableList.of(ImmutableList.of(a, b, c)), cycles);
+        assertEquals(ImmutableMap.of(chained, entry, id("link"), entry), resolved);
+    }
+
+    @Test
+    public void reportsSelfAlias() {
+        final List<List<ResourceLocation>> cycles = new ArrayList<>();
+        final Map<ResourceLocation, ResourceLocation> resolved = DynamicRegistry.resolveAliases(id("aliases"),
+                ImmutableMap.of(id("self"), id("self")), ImmutableSet.of(), cycles::add);
+
+        assertEquals(ImmutableList.of(ImmutableList.of(id("self"))), cycles);
+        assertTrue(resolved.isEmpty());
+    }
+
+    /**
+     * Handles a missing entry within a new registry.
+     *
+     * @param manager the manager handling the missing entry
+     * @param missingName the name of the missing entry
+     * @return the name the missing entry was remapped to, or {@code null} if it was not remapped
+     */
+    @Nullable
+    private static ResourceLocation remappedBy(final MissingEntryManager manager, final String missingName) {
+        final DynamicRegistry<TestEntry, TestCodec> registry = create("missing_entries", LEAF);
+        registry.unlock();
+        manager.handle(new ResourceLocation(missingName), registry);
+        return registry.aliases.get(new ResourceLocation(missingName));
+    }
+
+    private static MissingEntryManager manager(final String... declarations) {
+        return MissingEntryManager.builder().add(declarations(declarations), JsonOps.INSTANCE).build();
+    }
+
+    /**
+     * Encodes remap strategies in the order they are declared.
+     *
+     * @param declarations pairs of the declared identifier and the path of the remapped name
+     * @return the encoded strategies
+     */
+    private static JsonObject declarations(final String... declarations) {
+        final JsonObject json = new JsonObject();
+        for (int i = 0; i < declarations.length; i += 2) {
+            final JsonObject strategy = new JsonObject();
+            strategy.addProperty("type", "remap");
+            strategy.addProperty("remappedName", id(declarations[i + 1]).toString());
+            json.add(declarations[i], strategy);
+        }
+        return json;
+    }
+}
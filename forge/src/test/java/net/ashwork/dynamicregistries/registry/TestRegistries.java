@@ -0,0 +1,302 @@
+/*
+ * Dynamic Registries
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.dynamicregistries.registry;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import net.ashwork.dynamicregistries.DynamicRegistryManager;
+import net.ashwork.dynamicregistries.entry.ICodecEntry;
+import net.ashwork.dynamicregistries.entry.IDynamicEntry;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.registries.IForgeRegistry;
+
+import javax.annotation.Nullable;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Registries and entries shared by the registry tests. The codec registries
+ * are backed by a plain map, such that no Forge registry needs to exist.
+ */
+public final class TestRegistries {
+
+    /**
+     * The namespace of all registries and entries created by the tests.
+     */
+    public static final String NAMESPACE = "dynamicregistries_test";
+
+    /**
+     * The codec of {@link Leaf} entries.
+     */
+    public static final TestCodec LEAF = new TestCodec(id("leaf"), codec -> RecordCodecBuilder.<Leaf>create(instance ->
+            instance.group(
+                    Codec.STRING.fieldOf("value").forGetter(Leaf::getValue)
+            ).apply(instance, Leaf::new)
+    ));
+
+    private TestRegistries() {}
+
+    /**
+     * Creates an identifier within the test namespace.
+     *
+     * @param path the path of the identifier
+     * @return the identifier
+     */
+    public static ResourceLocation id(final String path) {
+        return new ResourceLocation(NAMESPACE, path);
+    }
+
+    /**
+     * Creates a registry which is not held by any registry manager.
+     *
+     * @param name the path of the registry name
+     * @param codecs the codecs of the entries within the registry
+     * @return the registry
+     */
+    public static DynamicRegistry<TestEntry, TestCodec> create(final String name, final TestCodec... codecs) {
+        return new DynamicRegistry<>(builder(name, UnaryOperator.identity(), codecs), DynamicRegistryManager.DYNAMIC);
+    }
+
+    /**
+     * Creates a registry builder.
+     *
+     * @param name the path of the registry name
+     * @param settings applies any additional settings to the builder
+     * @param codecs the codecs of the entries within the registry
+     * @return the registry builder
+     */
+    public static DynamicRegistryBuilder<TestEntry, TestCodec> builder(final String name, final UnaryOperator<DynamicRegistryBuilder<TestEntry, TestCodec>> settings,
+                                                                         final TestCodec... codecs) {
+        return settings.apply(new DynamicRegistryBuilder<>(id(name), TestEntry.class, codecRegistry(id(name + "_codec"), codecs)));
+    }
+
+    /**
+     * Creates a codec which encodes a {@link Link} to an entry of another registry.
+     *
+     * @param name the path of the codec name
+     * @param target the registry the linked entries are within
+     * @return the codec
+     */
+    public static TestCodec link(final String name, final DynamicRegistry<TestEntry, TestCodec> target) {
+        return new TestCodec(id(name), codec -> RecordCodecBuilder.<Link>create(instance ->
+                instance.group(
+                        target.fieldOf("target").forGetter(Link::getTarget)
+                ).apply(instance, entry -> new Link(codec, entry))
+        ));
+    }
+
+    /**
+     * Registers entries to a registry and publishes it.
+     *
+     * @param registry the registry
+     * @param entries the entries mapped by the path of their identifier
+     */
+    public static void registerAll(final DynamicRegistry<TestEntry, TestCodec> registry, final Map<String, TestEntry> entries) {
+        registry.unlock();
+        entries.forEach((path, entry) -> registry.register(entry.setRegistryName(id(path))));
+        registry.lock();
+    }
+
+    /**
+     * Creates a codec registry backed by a map.
+     *
+     * @param name the name of the codec registry
+     * @param codecs the codecs within the registry
+     * @return the codec registry
+     */
+    @SuppressWarnings("unchecked")
+    private static IForgeRegistry<TestCodec> codecRegistry(final ResourceLocation name, final TestCodec... codecs) {
+        final Map<ResourceLocation, TestCodec> values = new HashMap<>();
+        for (TestCodec codec : codecs) values.put(codec.getRegistryName(), codec);
+        return (IForgeRegistry<TestCodec>) Proxy.newProxyInstance(TestRegistries.class.getClassLoader(), new Class<?>[]{IForgeRegistry.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getRegistryName":
+                    return name;
+                case "getRegistrySuperType":
+                    return TestCodec.class;
+                case "getValue":
+                    return values.get((ResourceLocation) args[0]);
+                case "containsKey":
+                    return values.containsKey((ResourceLocation) args[0]);
+                case "getKey":
+                    return ((TestCodec) args[0]).getRegistryName();
+                case "getKeys":
+                    return values.keySet();
+                case "getValues":
+                    return values.values();
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return name.toString();
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+
+    /**
+     * The super type of all entries within the test registries.
+     */
+    public abstract static class TestEntry implements IDynamicEntry<TestEntry> {
+
+        /**
+         * The codec of the entry.
+         */
+        private final TestCodec codec;
+        /**
+         * The identifier of the entry.
+         */
+        @Nullable
+        private ResourceLocation registryName;
+
+        /**
+         * Constructs an entry.
+         *
+         * @param codec the codec of the entry
+         */
+        protected TestEntry(final TestCodec codec) {
+            this.codec = codec;
+        }
+
+        @Override
+        public ICodecEntry<? extends TestEntry, ?> codec() {
+            return this.codec;
+        }
+
+        @Override
+        public TestEntry setRegistryName(final ResourceLocation name) {
+            this.registryName = name;
+            return this;
+        }
+
+        @Nullable
+        @Override
+        public ResourceLocation getRegistryName() {
+            return this.registryName;
+        }
+
+        @Override
+        public Class<TestEntry> getRegistryType() {
+            return TestEntry.class;
+        }
+    }
+
+    /**
+     * An entry holding a string.
+     */
+    public static final class Leaf extends TestEntry {
+
+        /**
+         * The string held by the entry.
+         */
+        private final String value;
+
+        /**
+         * Constructs a leaf.
+         *
+         * @param value the string held by the entry
+         */
+        public Leaf(final String value) {
+            super(LEAF);
+            this.value = value;
+        }
+
+        /**
+         * Returns the string held by the entry.
+         *
+         * @return the string held by the entry
+         */
+        public String getValue() {
+            return this.value;
+        }
+    }
+
+    /**
+     * An entry referencing an entry of another registry.
+     */
+    public static final class Link extends TestEntry {
+
+        /**
+         * The referenced entry.
+         */
+        private final TestEntry target;
+
+        /**
+         * Constructs a link.
+         *
+         * @param codec the codec of the link
+         * @param target the referenced entry
+         */
+        public Link(final TestCodec codec, final TestEntry target) {
+            super(codec);
+            this.target = target;
+        }
+
+        /**
+         * Returns the referenced entry.
+         *
+         * @return the referenced entry
+         */
+        public TestEntry getTarget() {
+            return this.target;
+        }
+    }
+
+    /**
+     * A codec of entries within the test registries.
+     */
+    public static final class TestCodec implements ICodecEntry<TestEntry, TestCodec> {
+
+        /**
+         * The name of the codec.
+         */
+        private final ResourceLocation name;
+        /**
+         * The codec of the entries.
+         */
+        private final Codec<? extends TestEntry> entryCodec;
+
+        /**
+         * Constructs a codec.
+         *
+         * @param name the name of the codec
+         * @param entryCodec creates the codec of the entries from this codec
+         */
+        public TestCodec(final ResourceLocation name, final Function<TestCodec, Codec<? extends TestEntry>> entryCodec) {
+            this.name = name;
+            this.entryCodec = entryCodec.apply(this);
+        }
+
+        @Override
+        public Codec<? extends TestEntry> entryCodec() {
+            return this.entryCodec;
+        }
+
+        @Override
+        public TestCodec setRegistryName(final ResourceLocation name) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ResourceLocation getRegistryName() {
+            return this.name;
+        }
+
+        @Override
+        public Class<TestCodec> getRegistryType() {
+            return TestCodec.class;
+        }
+    }
+}